@@ -43,6 +43,7 @@ public enum ErrorCode {
     // Post
     POST_NOT_FOUND("게시글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "P4041"),
     NO_AUTHORIZATION("권한이 없습니다.", HttpStatus.FORBIDDEN, "P4031"),
+    INVALID_CURSOR("유효하지 않은 커서입니다.", HttpStatus.BAD_REQUEST, "P4001"),
     
     // Comment
     COMMENT_NOT_FOUND("댓글을 찾을 수 없습니다.", HttpStatus.NOT_FOUND, "C4041"),
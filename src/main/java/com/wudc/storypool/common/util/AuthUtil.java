@@ -18,6 +18,6 @@ public class AuthUtil {
             throw new BaseException(ErrorCode.UNAUTHORIZED);
         }
 
-        return ((PrincipalDetails) authentication.getPrincipal()).getUser().getId();
+        return ((PrincipalDetails) authentication.getPrincipal()).getUserId();
     }
 }
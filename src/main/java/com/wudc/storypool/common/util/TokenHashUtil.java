@@ -0,0 +1,27 @@
+package com.wudc.storypool.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public class TokenHashUtil {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private TokenHashUtil() {
+    }
+
+    /**
+     * "Bearer " 접두사 유무와 관계없이 동일한 토큰이면 같은 SHA-256 해시(hex)를 반환합니다.
+     */
+    public static String hash(String token) {
+        String rawToken = token.startsWith(BEARER_PREFIX) ? token.substring(BEARER_PREFIX.length()) : token;
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.wudc.storypool.domain.comment.repository;
 
 import com.wudc.storypool.domain.comment.entity.CommentLike;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -20,6 +23,18 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, String
     @Query("SELECT cl.commentId FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId IN :commentIds")
     List<String> findLikedCommentIdsByUserIdAndCommentIds(@Param("userId") String userId, @Param("commentIds") List<String> commentIds);
 
+    // 좋아요 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment_like"))
+    @Query(value = "INSERT IGNORE INTO comment_like (id, user_id, comment_id, created_at, updated_at) " +
+                   "VALUES (:id, :userId, :commentId, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("id") String id, @Param("userId") String userId, @Param("commentId") String commentId);
+
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.userId = :userId AND cl.commentId = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") String userId, @Param("commentId") String commentId);
+
     // 특정 댓글의 좋아요 수 조회
     @Query("SELECT COUNT(cl) FROM CommentLike cl WHERE cl.commentId = :commentId")
     long countByCommentId(@Param("commentId") String commentId);
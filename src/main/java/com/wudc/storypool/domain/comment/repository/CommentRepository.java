@@ -1,10 +1,13 @@
 package com.wudc.storypool.domain.comment.repository;
 
 import com.wudc.storypool.domain.comment.entity.Comment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -73,4 +76,10 @@ public interface CommentRepository extends JpaRepository<Comment, String> {
     // 특정 게시글에 해당 사용자가 작성한 댓글 수
     @Query("SELECT COUNT(c) FROM Comment c WHERE c.postId = :postId AND c.userId = :userId")
     long countByPostIdAndUserId(@Param("postId") String postId, @Param("userId") String userId);
+
+    // 좋아요 수 증감 (엔티티를 읽지 않고 원자적으로 반영)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "comment"))
+    @Query(value = "UPDATE comment SET like_count = GREATEST(like_count + :delta, 0) WHERE id = :commentId", nativeQuery = true)
+    int addLikeCount(@Param("commentId") String commentId, @Param("delta") long delta);
 }
\ No newline at end of file
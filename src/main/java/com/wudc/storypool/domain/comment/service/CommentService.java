@@ -4,19 +4,22 @@ import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
 import com.wudc.storypool.domain.comment.controller.response.CommentListResponse;
 import com.wudc.storypool.domain.comment.entity.Comment;
-import com.wudc.storypool.domain.comment.entity.CommentLike;
 import com.wudc.storypool.domain.comment.repository.CommentLikeRepository;
 import com.wudc.storypool.domain.comment.repository.CommentRepository;
+import com.wudc.storypool.domain.notification.service.NotificationEvent;
+import com.wudc.storypool.domain.notification.service.NotificationFanout;
 import com.wudc.storypool.domain.post.entity.Post;
 import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.TrendingService;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
-import com.wudc.storypool.global.fcm.FcmService;
+import de.huxhorn.sulky.ulid.ULID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -31,8 +34,9 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
     private final PostRepository postRepository;
+    private final TrendingService trendingService;
     private final UserRepository userRepository;
-    private final FcmService fcmService;
+    private final NotificationFanout notificationFanout;
 
     @Transactional(readOnly = true)
     public CommentListResponse getCommentsList(String currentUserId, String postId, String sortBy, String afterCursor, int limit) {
@@ -158,8 +162,8 @@ public class CommentService {
             notificationTargetUserId = post.getUserId(); // 게시글 작성자에게 알림
             
             // 게시글의 댓글 수 증가
-            post.incrementCommentCount();
-            postRepository.save(post);
+            postRepository.addCommentCount(postId, 1);
+            trendingService.recordComment(postId);
         } else {
             // 대댓글 생성
             Comment parentComment = commentRepository.findById(parentId)
@@ -184,25 +188,17 @@ public class CommentService {
 
         Comment savedComment = commentRepository.save(comment);
 
-        // FCM 푸시 알림 발송 (본인이 아닌 경우에만)
+        // 알림은 커밋 이후 비동기로 저장/발송 (본인이 아닌 경우에만)
         if (notificationTargetUserId != null && !userId.equals(notificationTargetUserId)) {
-            try {
-                sendCommentNotification(notificationTargetUserId, post.getTitle(), comment.getParentId() == null);
-            } catch (Exception e) {
-                log.error("Failed to send comment notification", e);
-            }
+            notificationFanout.publish(parentId == null
+                    ? NotificationEvent.commentOnPost(notificationTargetUserId, userId, postId, post.getTitle())
+                    : NotificationEvent.replyOnComment(notificationTargetUserId, userId, postId, post.getTitle()));
         }
 
         log.info("Comment created successfully: {} by user: {}", savedComment.getId(), userId);
         return savedComment;
     }
 
-    private void sendCommentNotification(String targetUserId, String postTitle, boolean isComment) {
-        // 실제 FCM 알림 로직 구현
-        // fcmService.sendCommentNotification(targetUserId, postTitle, isComment);
-        log.info("Comment notification sent to user: {} for post: {}", targetUserId, postTitle);
-    }
-
     @Transactional
     public Comment updateComment(String userId, String commentId, String content) {
         Comment comment = commentRepository.findById(commentId)
@@ -239,10 +235,10 @@ public class CommentService {
         // 댓글인 경우
         if (comment.isComment()) {
             // 게시글의 댓글 수 감소
-            Post post = postRepository.findById(comment.getPostId())
-                    .orElseThrow(() -> new BaseException(ErrorCode.POST_NOT_FOUND));
-            post.decrementCommentCount();
-            postRepository.save(post);
+            if (postRepository.addCommentCount(comment.getPostId(), -1) == 0) {
+                throw new BaseException(ErrorCode.POST_NOT_FOUND);
+            }
+            trendingService.cancelComment(comment.getPostId(), comment.getCreatedAt());
 
             // 대댓글들도 함께 삭제
             commentLikeRepository.deleteByCommentId(commentId);
@@ -266,33 +262,27 @@ public class CommentService {
         log.info("Comment deleted successfully: {} by user: {}", commentId, userId);
     }
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public boolean toggleLike(String userId, String commentId) {
         // 댓글 존재 확인
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> {
-                    log.warn("Comment not found for like toggle: {}", commentId);
-                    return new BaseException(ErrorCode.COMMENT_NOT_FOUND);
-                });
-
-        Optional<CommentLike> existingLike = commentLikeRepository.findByUserIdAndCommentId(userId, commentId);
+        if (!commentRepository.existsById(commentId)) {
+            log.warn("Comment not found for like toggle: {}", commentId);
+            throw new BaseException(ErrorCode.COMMENT_NOT_FOUND);
+        }
 
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            commentLikeRepository.delete(existingLike.get());
-            comment.decrementLikeCount();
-            commentRepository.save(comment);
-            log.info("Comment like removed: commentId={}, userId={}", commentId, userId);
-            return false;
-        } else {
-            // 좋아요 추가
-            CommentLike like = CommentLike.create(userId, commentId);
-            commentLikeRepository.save(like);
-            comment.incrementLikeCount();
-            commentRepository.save(comment);
+        // 좋아요 추가 (이미 좋아요한 경우 0 반환)
+        if (commentLikeRepository.insertIgnore(new ULID().nextULID(), userId, commentId) > 0) {
+            commentRepository.addLikeCount(commentId, 1);
             log.info("Comment like added: commentId={}, userId={}", commentId, userId);
             return true;
         }
+
+        // 좋아요 취소 (동시 요청이 먼저 취소한 경우 0 반환)
+        if (commentLikeRepository.deleteByUserIdAndCommentId(userId, commentId) > 0) {
+            commentRepository.addLikeCount(commentId, -1);
+        }
+        log.info("Comment like removed: commentId={}, userId={}", commentId, userId);
+        return false;
     }
 
     @Transactional(readOnly = true)
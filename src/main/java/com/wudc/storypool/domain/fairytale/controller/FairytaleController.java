@@ -4,7 +4,6 @@ import com.wudc.storypool.common.util.AuthUtil;
 import com.wudc.storypool.domain.fairytale.controller.request.*;
 import com.wudc.storypool.domain.fairytale.controller.response.*;
 import com.wudc.storypool.domain.fairytale.entity.Fairytale;
-import com.wudc.storypool.domain.fairytale.entity.FairytaleePage;
 import com.wudc.storypool.domain.fairytale.service.FairytaleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -57,15 +56,15 @@ public class FairytaleController {
 
         List<FairytaleListResponse.FairytaleItem> fairytaleItems = fairytales.stream()
                 .map(fairytale -> {
-                    FairytaleePage thumbnailPage = fairytale.getThumbnailPage();
+                    // 페이지 목록을 읽지 않고 비정규화된 썸네일 URL 만 사용
                     FairytaleListResponse.ThumbnailInfo thumbnail = null;
                     
-                    if (thumbnailPage != null) {
+                    if (fairytale.getThumbnailUrl() != null) {
                         thumbnail = new FairytaleListResponse.ThumbnailInfo(
-                            thumbnailPage.getPageIndex(),
-                            thumbnailPage.getMood(),
-                            thumbnailPage.getStory(),
-                            thumbnailPage.getImageUrl()
+                            0,
+                            null,
+                            null,
+                            fairytale.getThumbnailUrl()
                         );
                     }
                     
@@ -7,11 +7,15 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fairytale")
 @Getter @Setter
 @NoArgsConstructor
 public class Fairytale extends BaseEntity {
@@ -35,8 +39,13 @@ public class Fairytale extends BaseEntity {
     @Column(length = 255)
     private String message = "";
 
+    // 목록 화면용 첫 페이지 이미지 (pageList 를 읽지 않도록 비정규화)
+    @Column(length = 1000)
+    private String thumbnailUrl;
+
     @OneToMany(mappedBy = "fairytale", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @OrderBy("pageIndex ASC")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fairytale-pages")
     private List<FairytaleePage> pageList = new ArrayList<>();
 
     public static Fairytale create(String userId, String storyId, String name) {
@@ -63,6 +72,7 @@ public class Fairytale extends BaseEntity {
         this.pageList.clear();
         this.pageList.addAll(pages);
         this.pageNumber = pages.size();
+        this.thumbnailUrl = pages.isEmpty() ? null : pages.get(0).getImageUrl();
         this.status = FairytaleStatus.COMPLETED;
         this.message = "동화 생성이 완료되었습니다.";
         
@@ -2,10 +2,16 @@ package com.wudc.storypool.domain.fairytale.repository;
 
 import com.wudc.storypool.domain.fairytale.entity.Fairytale;
 import com.wudc.storypool.domain.fairytale.entity.constant.FairytaleStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -25,8 +31,22 @@ public interface FairytaleRepository extends JpaRepository<Fairytale, String> {
     
     boolean existsByIdAndUserId(String id, String userId);
     
+    // 생성 상태 전이 시 완료 콜백과 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT f FROM Fairytale f WHERE f.id = :id")
+    Optional<Fairytale> findByIdForUpdate(String id);
+    
     @Query("SELECT f FROM Fairytale f WHERE f.storyId = :storyId AND f.status IN :statuses")
     List<Fairytale> findByStoryIdAndStatusIn(String storyId, List<FairytaleStatus> statuses);
     
     Optional<Fairytale> findByUserIdAndStoryId(String userId, String storyId);
+
+    // 썸네일 URL 이 비어 있는 동화에 첫 페이지 이미지를 채움
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "fairytale"))
+    @Query(value = "UPDATE fairytale f SET f.thumbnail_url = " +
+                   "(SELECT fp.image_url FROM fairytale_page fp WHERE fp.fairytale_id = f.id ORDER BY fp.page_index LIMIT 1) " +
+                   "WHERE f.thumbnail_url IS NULL AND EXISTS (SELECT 1 FROM fairytale_page p WHERE p.fairytale_id = f.id)",
+           nativeQuery = true)
+    int backfillThumbnailUrls();
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.wudc.storypool.domain.fairytale.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wudc.storypool.global.llm.LlmService;
+import com.wudc.storypool.global.outbox.OutboxEvent;
+import com.wudc.storypool.global.outbox.OutboxEventType;
+import com.wudc.storypool.global.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스에 기록된 동화 생성 요청을 LLM 서버로 보내고, 접수되면 PENDING → PROCESSING 으로 전환합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FairytaleGenerationOutboxHandler implements OutboxHandler {
+
+    private final LlmService llmService;
+    private final FairytaleService fairytaleService;
+    private final ObjectMapper objectMapper;
+
+    public record GenerationRequest(String fairytaleId, String text) {}
+
+    @Override
+    public OutboxEventType type() {
+        return OutboxEventType.FAIRYTALE_GENERATION;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        GenerationRequest request = objectMapper.readValue(event.getPayload(), GenerationRequest.class);
+        llmService.requestFairytaleGeneration(request.fairytaleId(), request.text());
+        fairytaleService.markGenerationStarted(request.fairytaleId());
+    }
+
+    @Override
+    public void onDeadLetter(OutboxEvent event) {
+        fairytaleService.markGenerationFailed(event.getAggregateId());
+    }
+}
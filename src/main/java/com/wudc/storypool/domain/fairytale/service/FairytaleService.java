@@ -1,5 +1,7 @@
 package com.wudc.storypool.domain.fairytale.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
 import com.wudc.storypool.domain.fairytale.entity.Fairytale;
@@ -7,13 +9,17 @@ import com.wudc.storypool.domain.fairytale.entity.FairytaleePage;
 import com.wudc.storypool.domain.fairytale.entity.constant.FairytaleStatus;
 import com.wudc.storypool.domain.fairytale.repository.FairytalePageRepository;
 import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import com.wudc.storypool.domain.notification.service.NotificationEvent;
+import com.wudc.storypool.domain.notification.service.NotificationFanout;
 import com.wudc.storypool.domain.post.repository.PostRepository;
 import com.wudc.storypool.domain.story.entity.Story;
 import com.wudc.storypool.domain.story.repository.StoryRepository;
 import com.wudc.storypool.domain.upload.service.S3UploadService;
 import com.wudc.storypool.domain.fairytale.controller.request.NotifyFairytaleCompletionRequest;
-import com.wudc.storypool.global.fcm.FcmService;
-import com.wudc.storypool.global.llm.LlmService;
+import com.wudc.storypool.global.cache.EntityCacheInvalidator;
+import com.wudc.storypool.global.outbox.OutboxEvent;
+import com.wudc.storypool.global.outbox.OutboxEventRepository;
+import com.wudc.storypool.global.outbox.OutboxEventType;
 
 import java.util.Arrays;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Comparator;
 import java.util.List;
 
 @Service
@@ -34,9 +41,11 @@ public class FairytaleService {
     private final FairytalePageRepository fairytalePageRepository;
     private final PostRepository postRepository;
     private final StoryRepository storyRepository;
-    private final FcmService fcmService;
-    private final LlmService llmService;
+    private final NotificationFanout notificationFanout;
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
     private final S3UploadService s3UploadService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     @Transactional(readOnly = true)
     public List<Fairytale> getFairytalesList(String userId, String afterCursor, int limit) {
@@ -82,28 +91,55 @@ public class FairytaleService {
         
         // Create initial fairytale record
         Fairytale fairytale = Fairytale.create(userId, storyId, name);
+        fairytale.updateStatus(FairytaleStatus.PENDING, "동화 생성 대기 중입니다.");
         Fairytale savedFairytale = fairytaleRepository.save(fairytale);
 
+        // LLM 요청은 같은 트랜잭션에 아웃박스로 기록하고, 커밋 이후 OutboxDispatcher 가 발송
+        outboxEventRepository.save(OutboxEvent.create(
+            OutboxEventType.FAIRYTALE_GENERATION,
+            savedFairytale.getId(),
+            toPayload(new FairytaleGenerationOutboxHandler.GenerationRequest(savedFairytale.getId(), story.getText()))
+        ));
+
+        log.info("Fairytale generation queued for user: {} storyId: {} fairytaleId: {}",
+                userId, storyId, savedFairytale.getId());
+        return savedFairytale;
+    }
+
+    /**
+     * LLM 서버가 요청을 접수하면 호출됩니다. 완료 콜백이 먼저 도착한 경우에는 상태를 되돌리지 않습니다.
+     */
+    @Transactional
+    public void markGenerationStarted(String fairytaleId) {
+        fairytaleRepository.findByIdForUpdate(fairytaleId)
+                .filter(fairytale -> fairytale.getStatus() == FairytaleStatus.PENDING)
+                .ifPresent(fairytale -> {
+                    fairytale.updateStatus(FairytaleStatus.PROCESSING, "동화 생성 중입니다.");
+                    entityCacheInvalidator.evict(Fairytale.class, fairytaleId);
+                    log.info("Fairytale generation started. fairytaleId: {}", fairytaleId);
+                });
+    }
+
+    /**
+     * 재시도를 모두 실패해 LLM 서버에 요청하지 못한 경우
+     */
+    @Transactional
+    public void markGenerationFailed(String fairytaleId) {
+        fairytaleRepository.findByIdForUpdate(fairytaleId)
+                .filter(fairytale -> fairytale.getStatus() == FairytaleStatus.PENDING
+                        || fairytale.getStatus() == FairytaleStatus.PROCESSING)
+                .ifPresent(fairytale -> {
+                    fairytale.updateStatus(FairytaleStatus.FAILED, "동화 생성에 실패했습니다.");
+                    entityCacheInvalidator.evict(Fairytale.class, fairytaleId);
+                    log.warn("Fairytale generation failed. fairytaleId: {}", fairytaleId);
+                });
+    }
+
+    private String toPayload(Object payload) {
         try {
-            // Set status to PROCESSING
-            savedFairytale.updateStatus(FairytaleStatus.PROCESSING, "동화 생성 중입니다.");
-            Fairytale updatedFairytale = fairytaleRepository.save(savedFairytale);
-            
-            // Send request to LLM server with story text
-            llmService.requestFairytaleGeneration(savedFairytale.getId(), story.getText());
-            
-            log.info("Fairytale generation started for user: {} storyId: {} fairytaleId: {}", 
-                    userId, storyId, savedFairytale.getId());
-            return updatedFairytale;
-        } catch (Exception e) {
-            log.error("Failed to start fairytale generation for user: {} storyId: {} fairytaleId: {}", 
-                    userId, storyId, savedFairytale.getId(), e);
-            
-            // Update status to FAILED
-            savedFairytale.updateStatus(FairytaleStatus.FAILED, "동화 생성에 실패했습니다.");
-            fairytaleRepository.save(savedFairytale);
-            
-            throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox payload", e);
         }
     }
 
@@ -126,6 +162,7 @@ public class FairytaleService {
 
         fairytale.updateName(name);
         Fairytale updatedFairytale = fairytaleRepository.save(fairytale);
+        entityCacheInvalidator.evict(Fairytale.class, fairytaleId);
         
         log.info("Fairytale updated successfully for user: {} fairytaleId: {}", userId, fairytaleId);
         return updatedFairytale;
@@ -170,6 +207,7 @@ public class FairytaleService {
         
         // Delete fairytale from database
         fairytaleRepository.delete(fairytale);
+        entityCacheInvalidator.evict(Fairytale.class, fairytaleId);
         
         log.info("Fairytale deleted successfully for user: {} fairytaleId: {}", userId, fairytaleId);
     }
@@ -230,6 +268,7 @@ public class FairytaleService {
             );
             fairytalePageRepository.save(page);
         }
+        savedFairytale.setThumbnailUrl(imageUrls[0]);
 
         log.info("Test fairytale generated successfully for user: {} fairytaleId: {}", userId, savedFairytale.getId());
         return savedFairytale;
@@ -286,6 +325,7 @@ public class FairytaleService {
 
         fairytale.updateStatus(status, message);
         Fairytale updatedFairytale = fairytaleRepository.save(fairytale);
+        entityCacheInvalidator.evict(Fairytale.class, fairytaleId);
         
         log.info("Fairytale status updated successfully. fairytaleId: {} status: {} message: {}", 
                 fairytaleId, status, message);
@@ -304,6 +344,10 @@ public class FairytaleService {
         // Update fairytale status and page number
         fairytale.updateStatus(request.status(), request.message());
         fairytale.setPageNumber(request.pageNumber());
+        fairytale.setThumbnailUrl(request.pageList().stream()
+                .min(Comparator.comparing(NotifyFairytaleCompletionRequest.PageData::pageIndex))
+                .map(NotifyFairytaleCompletionRequest.PageData::imageUrl)
+                .orElse(null));
         Fairytale updatedFairytale = fairytaleRepository.save(fairytale);
 
         // Delete existing pages (if any) and create new ones
@@ -319,36 +363,14 @@ public class FairytaleService {
             );
             fairytalePageRepository.save(page);
         }
+        entityCacheInvalidator.evict(Fairytale.class, request.id());
 
-        // Send FCM notification to user
-        try {
-            sendFairytaleCompletionNotification(updatedFairytale);
-        } catch (Exception e) {
-            log.error("Failed to send FCM notification for fairytale completion. fairytaleId: {} error: {}", 
-                    request.id(), e.getMessage());
-            // Don't fail the entire operation if notification fails
-        }
+        // 알림 저장과 푸시 발송은 커밋 이후 비동기로 처리
+        notificationFanout.publish(NotificationEvent.fairytaleCompleted(
+            updatedFairytale.getUserId(), updatedFairytale.getId(), updatedFairytale.getName()));
 
         log.info("Fairytale completion processed successfully. fairytaleId: {} pages: {}", 
                 request.id(), request.pageNumber());
         return updatedFairytale;
     }
-
-    private void sendFairytaleCompletionNotification(Fairytale fairytale) {
-        try {
-            String userId = fairytale.getUserId();
-            
-            fcmService.sendFairytaleCompletionNotification(
-                userId,
-                fairytale.getId(),
-                fairytale.getName()
-            );
-            
-            log.info("FCM notification sent successfully for fairytale completion. fairytaleId: {} userId: {}", 
-                    fairytale.getId(), userId);
-        } catch (Exception e) {
-            log.error("Failed to send FCM notification: {}", e.getMessage());
-            throw e;
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.wudc.storypool.domain.fairytale.service;
+
+import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 기동 시 thumbnail_url 이 비어 있는 기존 동화에 첫 페이지 이미지를 채웁니다.
+ * 이미 채워진 동화는 건드리지 않으므로 반복 실행해도 안전합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FairytaleThumbnailInitializer {
+
+    private final FairytaleRepository fairytaleRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        int updated = fairytaleRepository.backfillThumbnailUrls();
+        if (updated > 0) {
+            log.info("Backfilled thumbnail url for {} fairytale(s)", updated);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.wudc.storypool.domain.notification.controller.request.MarkReadRequest
 import com.wudc.storypool.domain.notification.controller.response.DeleteNotificationResponse;
 import com.wudc.storypool.domain.notification.controller.response.MarkReadResponse;
 import com.wudc.storypool.domain.notification.controller.response.NotificationListResponse;
+import com.wudc.storypool.domain.notification.controller.response.UnreadCountResponse;
 import com.wudc.storypool.domain.notification.service.NotificationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -50,6 +51,19 @@ public class NotificationController {
         return notificationService.getNotifications(userId, limit, cursor, unread);
     }
 
+    @Operation(summary = "읽지 않은 알림 수 조회", description = "앱 배지에 표시할 읽지 않은 알림 수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "읽지 않은 알림 수 조회 성공"),
+        @ApiResponse(responseCode = "401", description = "토큰 누락 또는 유효하지 않음"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/unread-count")
+    public UnreadCountResponse getUnreadCount() {
+        String userId = AuthUtil.getUserId();
+        return notificationService.getUnreadCount(userId);
+    }
+
     @Operation(summary = "알림 읽음 처리", description = "선택된 알림들을 읽음 상태로 처리합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "알림 읽음 처리 성공"),
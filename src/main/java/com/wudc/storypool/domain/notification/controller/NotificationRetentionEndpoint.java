@@ -0,0 +1,51 @@
+package com.wudc.storypool.domain.notification.controller;
+
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import com.wudc.storypool.domain.notification.service.NotificationPartitionManager;
+import com.wudc.storypool.domain.notification.service.NotificationRetentionProperties;
+import com.wudc.storypool.domain.notification.service.NotificationRetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /actuator/notificationretention
+ * notification 테이블 크기(통계 추정치), 파티션, 유형별 보관 기간, 이 노드의 최근 정리 진행 상황을 보여 줍니다.
+ */
+@Component
+@Endpoint(id = "notificationretention")
+@RequiredArgsConstructor
+public class NotificationRetentionEndpoint {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationRetentionProperties properties;
+    private final NotificationPartitionManager partitionManager;
+    private final NotificationRetentionService retentionService;
+
+    @ReadOperation
+    public Map<String, Object> retention() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("table", tableStats());
+        result.put("partitions", partitionManager.describe());
+
+        Map<String, Integer> ttlDays = new LinkedHashMap<>();
+        for (NotificationType type : NotificationType.values()) {
+            ttlDays.put(type.name(), properties.ttlDaysOf(type));
+        }
+        result.put("ttlDays", ttlDays);
+        result.put("maxPerUser", properties.getMaxPerUser());
+        result.put("purge", retentionService.progress());
+        return result;
+    }
+
+    private Map<String, Object> tableStats() {
+        return jdbcTemplate.queryForMap(
+            "SELECT TABLE_ROWS AS estimatedRows, DATA_LENGTH AS dataBytes, INDEX_LENGTH AS indexBytes " +
+            "FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification'");
+    }
+}
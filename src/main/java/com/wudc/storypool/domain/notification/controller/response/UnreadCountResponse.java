@@ -0,0 +1,5 @@
+package com.wudc.storypool.domain.notification.controller.response;
+
+public record UnreadCountResponse(
+    long unreadCount
+) {}
\ No newline at end of file
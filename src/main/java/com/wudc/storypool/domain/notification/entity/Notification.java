@@ -9,25 +9,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.NotFound;
 import org.hibernate.annotations.NotFoundAction;
+import org.hibernate.type.SqlTypes;
 
 @Entity
 @Getter @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(indexes = {
     @Index(name = "idx_notification_user_created_id", columnList = "user_id, createdAt, id"),
-    @Index(name = "idx_notification_user_read", columnList = "user_id, isRead")
+    @Index(name = "idx_notification_user_read", columnList = "user_id, isRead"),
+    @Index(name = "idx_notification_type_created", columnList = "type, createdAt")
 })
 public class Notification extends BaseEntity {
     
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    // 월 단위 파티션 테이블은 외래 키를 가질 수 없으므로 제약 조건을 만들지 않음
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     @NotFound(action = NotFoundAction.IGNORE)
     private User user;
     
+    // 유형이 추가될 때마다 컬럼을 변경하지 않도록 MySQL ENUM 대신 VARCHAR 로 저장
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 32)
     private NotificationType type;
     
     @Column(nullable = false, length = 1000, columnDefinition = "VARCHAR(1000) CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci")
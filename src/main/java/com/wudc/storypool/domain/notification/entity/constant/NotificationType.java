@@ -5,5 +5,6 @@ public enum NotificationType {
     REPLY_ON_COMMENT,
     LIKE_ON_POST,
     LIKE_ON_COMMENT,
+    FAIRYTALE_COMPLETED,
     SYSTEM_NOTICE
 }
\ No newline at end of file
@@ -10,7 +10,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface NotificationRepository extends JpaRepository<Notification, String> {
@@ -43,6 +45,15 @@ public interface NotificationRepository extends JpaRepository<Notification, Stri
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.id IN :notificationIds AND n.user.id = :userId")
     int markAsReadByIdsAndUserId(@Param("notificationIds") List<String> notificationIds, @Param("userId") String userId);
 
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") String userId);
+
+    @Query("SELECT n.user.id, COUNT(n) FROM Notification n WHERE n.user.id IN :userIds AND n.isRead = false GROUP BY n.user.id")
+    List<Object[]> countUnreadGroupByUserId(@Param("userIds") Collection<String> userIds);
+
+    @Query("SELECT n.isRead FROM Notification n WHERE n.id = :notificationId AND n.user.id = :userId")
+    Optional<Boolean> findIsReadByIdAndUserId(@Param("notificationId") String notificationId, @Param("userId") String userId);
+
     @Query("SELECT COUNT(n) FROM Notification n WHERE n.id = :notificationId AND n.user.id = :userId")
     int countByIdAndUserId(@Param("notificationId") String notificationId, @Param("userId") String userId);
 }
\ No newline at end of file
@@ -1,15 +1,29 @@
 package com.wudc.storypool.domain.notification.repository;
 
 import com.wudc.storypool.domain.notification.entity.NotificationSettings;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface NotificationSettingsRepository extends JpaRepository<NotificationSettings, String> {
-    
+
+    String QUERY_CACHE_REGION = "notification-settings-query";
+
+    // 알림 발송마다 조회되므로 쿼리 캐시 사용 (userId → 설정 ID)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
     Optional<NotificationSettings> findByUserId(String userId);
     
     boolean existsByUserId(String userId);
-}
\ No newline at end of file
+
+    List<NotificationSettings> findAllByUserIdIn(Collection<String> userIds);
+}
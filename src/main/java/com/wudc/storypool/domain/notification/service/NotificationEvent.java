@@ -0,0 +1,57 @@
+package com.wudc.storypool.domain.notification.service;
+
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+
+/**
+ * 알림을 만들어야 하는 도메인 이벤트.
+ *
+ * @param recipientId 알림을 받을 사용자
+ * @param actorId     알림을 일으킨 사용자 (시스템 이벤트는 null)
+ * @param targetId    알림을 눌렀을 때 이동할 대상 ID (게시글, 동화)
+ * @param targetName  알림 문구에 들어갈 대상 이름 (게시글 제목, 동화 이름)
+ */
+public record NotificationEvent(
+    String recipientId,
+    String actorId,
+    NotificationType type,
+    String targetId,
+    String targetName
+) {
+
+    public static NotificationEvent commentOnPost(String postAuthorId, String commenterId, String postId, String postTitle) {
+        return new NotificationEvent(postAuthorId, commenterId, NotificationType.COMMENT_ON_POST, postId, postTitle);
+    }
+
+    public static NotificationEvent replyOnComment(String commentAuthorId, String replierId, String postId, String postTitle) {
+        return new NotificationEvent(commentAuthorId, replierId, NotificationType.REPLY_ON_COMMENT, postId, postTitle);
+    }
+
+    public static NotificationEvent likeOnPost(String postAuthorId, String likerId, String postId, String postTitle) {
+        return new NotificationEvent(postAuthorId, likerId, NotificationType.LIKE_ON_POST, postId, postTitle);
+    }
+
+    public static NotificationEvent fairytaleCompleted(String userId, String fairytaleId, String fairytaleName) {
+        return new NotificationEvent(userId, null, NotificationType.FAIRYTALE_COMPLETED, fairytaleId, fairytaleName);
+    }
+
+    public String title() {
+        return switch (type) {
+            case COMMENT_ON_POST -> "새 댓글";
+            case REPLY_ON_COMMENT -> "새 답글";
+            case LIKE_ON_POST, LIKE_ON_COMMENT -> "좋아요";
+            case FAIRYTALE_COMPLETED -> "동화 생성 완료!";
+            case SYSTEM_NOTICE -> "공지";
+        };
+    }
+
+    public String message() {
+        return switch (type) {
+            case COMMENT_ON_POST -> String.format("'%s' 게시글에 새 댓글이 달렸습니다.", targetName);
+            case REPLY_ON_COMMENT -> String.format("'%s' 게시글의 내 댓글에 답글이 달렸습니다.", targetName);
+            case LIKE_ON_POST -> String.format("'%s' 게시글에 좋아요가 추가되었습니다.", targetName);
+            case LIKE_ON_COMMENT -> String.format("'%s' 게시글의 내 댓글에 좋아요가 추가되었습니다.", targetName);
+            case FAIRYTALE_COMPLETED -> String.format("'%s' 동화 생성이 완료되었습니다.", targetName);
+            case SYSTEM_NOTICE -> targetName;
+        };
+    }
+}
@@ -0,0 +1,291 @@
+package com.wudc.storypool.domain.notification.service;
+
+import com.wudc.storypool.domain.notification.entity.NotificationSettings;
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import com.wudc.storypool.domain.notification.repository.NotificationSettingsRepository;
+import com.wudc.storypool.global.fcm.FcmService;
+import de.huxhorn.sulky.ulid.ULID;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 생성 엔진.
+ *
+ * 도메인 서비스는 커밋 이후 이벤트를 큐에 넣기만 하고, 주기적으로 큐를 비우면서 수신자의 알림 설정으로 거른 뒤
+ * notification 행을 JDBC 배치 INSERT 로 한 번에 저장하고 푸시 발송으로 넘깁니다.
+ * 요청 스레드는 알림 저장을 기다리지 않으므로 인기 게시글에 댓글이 몰려도 응답 시간에 영향이 없습니다.
+ * 큐는 노드 메모리에 있으므로 노드가 죽으면 저장 전 알림은 유실됩니다.
+ * 좋아요처럼 취소 후 다시 할 수 있는 알림은 (행위자, 대상, 종류)마다 dedupeTtl 동안 한 번만 저장합니다.
+ */
+@Component
+@Slf4j
+public class NotificationFanout {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO notification (id, user_id, type, message, target_id, is_read, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, false, NOW(6), NOW(6))";
+    private static final String DEDUPE_KEY_PREFIX = "notification:dedupe:";
+
+    private final NotificationSettingsRepository notificationSettingsRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final FcmService fcmService;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationRetentionService notificationRetentionService;
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final Duration dedupeTtl;
+
+    private final ConcurrentLinkedQueue<NotificationEvent> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final ULID ulid = new ULID();
+
+    public NotificationFanout(
+        NotificationSettingsRepository notificationSettingsRepository,
+        JdbcTemplate jdbcTemplate,
+        StringRedisTemplate stringRedisTemplate,
+        FcmService fcmService,
+        UnreadNotificationCounter unreadNotificationCounter,
+        NotificationRetentionService notificationRetentionService,
+        MeterRegistry meterRegistry,
+        @Value("${notification.queueCapacity:10000}") int queueCapacity,
+        @Value("${notification.dedupeTtlSeconds:86400}") long dedupeTtlSeconds
+    ) {
+        this.notificationSettingsRepository = notificationSettingsRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.fcmService = fcmService;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationRetentionService = notificationRetentionService;
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = queueCapacity;
+        this.dedupeTtl = Duration.ofSeconds(dedupeTtlSeconds);
+
+        Gauge.builder("notification.fanout.queue.size", queueSize, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 알림 이벤트를 큐에 넣습니다. 트랜잭션 밖에서는 바로 넣습니다.
+     * 자기 자신에게 보내는 알림은 무시합니다.
+     */
+    public void publish(NotificationEvent event) {
+        if (event.recipientId() == null || event.recipientId().equals(event.actorId())) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(event);
+                }
+            });
+        } else {
+            offer(event);
+        }
+    }
+
+    private void offer(NotificationEvent event) {
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            meterRegistry.counter("notification.fanout", "result", "dropped").increment();
+            log.warn("Notification queue is full, dropping {} for user: {}", event.type(), event.recipientId());
+            return;
+        }
+        queue.offer(event);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.flushIntervalMs:200}")
+    public void flush() {
+        List<NotificationEvent> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<String, NotificationSettings> settings;
+        Set<String> activeRecipientIds;
+        try {
+            settings = loadSettings(drained);
+            activeRecipientIds = loadActiveRecipientIds(drained);
+        } catch (Exception e) {
+            meterRegistry.counter("notification.fanout", "result", "failed").increment(drained.size());
+            log.error("Failed to load notification settings for {} event(s)", drained.size(), e);
+            return;
+        }
+
+        List<NotificationEvent> accepted = new ArrayList<>();
+        int orphaned = 0;
+        for (NotificationEvent event : drained) {
+            if (!activeRecipientIds.contains(event.recipientId())) {
+                orphaned++;
+                continue;
+            }
+            NotificationSettings userSettings = settings.computeIfAbsent(event.recipientId(), NotificationSettings::createDefault);
+            if (isEnabled(userSettings, event.type())) {
+                accepted.add(event);
+            }
+        }
+        meterRegistry.counter("notification.fanout", "result", "no_recipient").increment(orphaned);
+        meterRegistry.counter("notification.fanout", "result", "filtered").increment(drained.size() - orphaned - accepted.size());
+        accepted = removeDuplicates(accepted);
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, accepted, accepted.size(), (ps, event) -> {
+                ps.setString(1, ulid.nextULID());
+                ps.setString(2, event.recipientId());
+                ps.setString(3, event.type().name());
+                ps.setString(4, event.message());
+                ps.setString(5, event.targetId());
+            });
+        } catch (Exception e) {
+            meterRegistry.counter("notification.fanout", "result", "failed").increment(accepted.size());
+            log.error("Failed to insert {} notification(s)", accepted.size(), e);
+            return;
+        }
+        meterRegistry.counter("notification.fanout", "result", "inserted").increment(accepted.size());
+        Map<String, Long> countsByUserId = accepted.stream()
+                .collect(Collectors.groupingBy(NotificationEvent::recipientId, Collectors.counting()));
+        unreadNotificationCounter.increment(countsByUserId);
+        notificationRetentionService.recordRecipients(countsByUserId.keySet());
+        log.debug("Inserted {} notification(s)", accepted.size());
+
+        for (NotificationEvent event : accepted) {
+            if (settings.get(event.recipientId()).getPushEnabled()) {
+                push(event);
+            }
+        }
+    }
+
+    private List<NotificationEvent> drain() {
+        List<NotificationEvent> drained = new ArrayList<>();
+        NotificationEvent event;
+        while ((event = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            drained.add(event);
+        }
+        return drained;
+    }
+
+    /**
+     * 같은 사용자가 좋아요를 눌렀다 취소했다 반복해도 알림은 한 번만 가도록, 처음 보낸 알림을 Redis 에 SET NX 로 표시합니다.
+     * Redis 오류 시에는 중복을 감수하고 그대로 보냅니다.
+     */
+    private List<NotificationEvent> removeDuplicates(List<NotificationEvent> events) {
+        List<NotificationEvent> repeatable = events.stream()
+                .filter(event -> isRepeatable(event.type()) && event.actorId() != null)
+                .toList();
+        if (repeatable.isEmpty()) {
+            return events;
+        }
+
+        List<Object> marked;
+        try {
+            marked = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (NotificationEvent event : repeatable) {
+                    connection.stringCommands().set(dedupeKey(event).getBytes(StandardCharsets.UTF_8),
+                            "1".getBytes(StandardCharsets.UTF_8), Expiration.from(dedupeTtl),
+                            RedisStringCommands.SetOption.ifAbsent());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to check duplicate notifications, sending {} event(s) as is", repeatable.size(), e);
+            return events;
+        }
+
+        List<NotificationEvent> unique = new ArrayList<>(events.size());
+        Iterator<Object> results = marked.iterator();
+        for (NotificationEvent event : events) {
+            if (isRepeatable(event.type()) && event.actorId() != null && !Boolean.TRUE.equals(results.next())) {
+                continue;
+            }
+            unique.add(event);
+        }
+        meterRegistry.counter("notification.fanout", "result", "duplicate").increment(events.size() - unique.size());
+        return unique;
+    }
+
+    private boolean isRepeatable(NotificationType type) {
+        return type == NotificationType.LIKE_ON_POST || type == NotificationType.LIKE_ON_COMMENT;
+    }
+
+    private String dedupeKey(NotificationEvent event) {
+        return DEDUPE_KEY_PREFIX + event.type().name() + ":" + event.actorId() + ":" + event.targetId();
+    }
+
+    private Map<String, NotificationSettings> loadSettings(List<NotificationEvent> events) {
+        Set<String> recipientIds = events.stream()
+                .map(NotificationEvent::recipientId)
+                .collect(Collectors.toSet());
+        Map<String, NotificationSettings> settings = new HashMap<>();
+        notificationSettingsRepository.findAllByUserIdIn(recipientIds)
+                .forEach(userSettings -> settings.put(userSettings.getUserId(), userSettings));
+        return settings;
+    }
+
+    /**
+     * notification.user_id 에는 외래 키가 없으므로(파티션 테이블은 외래 키를 가질 수 없음) 저장 전에 탈퇴했거나
+     * 없는 수신자를 직접 걸러냅니다. 탈퇴 시 남은 알림은 AuthService 가 지웁니다.
+     */
+    private Set<String> loadActiveRecipientIds(List<NotificationEvent> events) {
+        List<String> recipientIds = events.stream()
+                .map(NotificationEvent::recipientId)
+                .distinct()
+                .toList();
+        String placeholders = String.join(", ", Collections.nCopies(recipientIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT id FROM user WHERE deleted = false AND id IN (" + placeholders + ")",
+                String.class, recipientIds.toArray()));
+    }
+
+    private boolean isEnabled(NotificationSettings settings, NotificationType type) {
+        return switch (type) {
+            case COMMENT_ON_POST -> settings.getOnComment();
+            case REPLY_ON_COMMENT -> settings.getOnReply();
+            case LIKE_ON_POST, LIKE_ON_COMMENT -> settings.getOnLike();
+            case FAIRYTALE_COMPLETED -> settings.getOnFairytaleComplete();
+            case SYSTEM_NOTICE -> true;
+        };
+    }
+
+    private void push(NotificationEvent event) {
+        try {
+            if (event.type() == NotificationType.FAIRYTALE_COMPLETED) {
+                fcmService.sendFairytaleCompletionNotification(event.recipientId(), event.targetId(), event.targetName());
+            } else {
+                fcmService.sendNotificationToUser(event.recipientId(), event.title(), event.message(),
+                        event.type().name(), event.targetId(), event.message());
+            }
+        } catch (Exception e) {
+            log.error("Failed to queue push for {} to user: {}", event.type(), event.recipientId(), e);
+        }
+    }
+}
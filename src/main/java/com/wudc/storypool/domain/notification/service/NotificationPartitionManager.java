@@ -0,0 +1,162 @@
+package com.wudc.storypool.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * notification 테이블의 월 단위 RANGE COLUMNS(created_at) 파티션 관리.
+ *
+ * MySQL 파티션 테이블은 외래 키를 가질 수 없고 모든 유니크 키에 파티션 키가 들어가야 하므로,
+ * 처음 전환할 때 외래 키와 id 유니크 인덱스를 지우고 기본 키를 (id, created_at) 으로 바꿉니다.
+ * 전환은 테이블을 다시 만드는 작업이므로 트래픽이 적은 시간에 켜야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationPartitionManager {
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션이 없으면 전환하고, 앞으로 monthsAhead 개월 파티션을 미리 만든 뒤 maxTtlDays 가 지난 파티션을 삭제합니다.
+     * 삭제한 파티션에 읽지 않은 알림이 있던 사용자는 onUnreadDropped 로 알립니다.
+     *
+     * @return 삭제한 파티션 이름
+     */
+    public List<String> maintain(int monthsAhead, int maxTtlDays, Consumer<List<String>> onUnreadDropped) {
+        if (!isPartitioned()) {
+            convert(monthsAhead);
+        }
+        addFuturePartitions(monthsAhead);
+        return dropExpiredPartitions(maxTtlDays, onUnreadDropped);
+    }
+
+    public List<Map<String, Object>> describe() {
+        List<Map<String, Object>> partitions = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION",
+            rs -> {
+                Map<String, Object> partition = new LinkedHashMap<>();
+                partition.put("name", rs.getString(1));
+                partition.put("lessThan", rs.getString(2));
+                partition.put("rows", rs.getLong(3));
+                partitions.add(partition);
+            });
+        return partitions;
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' AND PARTITION_NAME IS NOT NULL",
+            Integer.class);
+        return count != null && count > 0;
+    }
+
+    private void convert(int monthsAhead) {
+        log.info("Converting notification table to monthly range partitions");
+
+        for (String foreignKey : findConstraints("FOREIGN KEY")) {
+            jdbcTemplate.execute("ALTER TABLE notification DROP FOREIGN KEY `" + foreignKey + "`");
+        }
+        for (String uniqueKey : findConstraints("UNIQUE")) {
+            jdbcTemplate.execute("ALTER TABLE notification DROP INDEX `" + uniqueKey + "`");
+        }
+        jdbcTemplate.update("UPDATE notification SET created_at = NOW(6) WHERE created_at IS NULL");
+
+        LocalDateTime oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM notification", LocalDateTime.class);
+        YearMonth from = oldest != null ? YearMonth.from(oldest) : YearMonth.now();
+        YearMonth to = YearMonth.now().plusMonths(monthsAhead);
+
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            definitions.add(partitionDefinition(month));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE notification MODIFY created_at DATETIME(6) NOT NULL, " +
+            "DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at) " +
+            "PARTITION BY RANGE COLUMNS(created_at) (" + String.join(", ", definitions) + ")");
+        log.info("Notification table partitioned into {} monthly partition(s)", definitions.size() - 1);
+    }
+
+    private void addFuturePartitions(int monthsAhead) {
+        Set<String> existing = partitionNames();
+        YearMonth latest = existing.stream()
+            .filter(name -> !MAX_PARTITION.equals(name))
+            .map(name -> YearMonth.parse(name, PARTITION_NAME))
+            .max(YearMonth::compareTo)
+            .orElse(YearMonth.now().minusMonths(1));
+
+        YearMonth to = YearMonth.now().plusMonths(monthsAhead);
+        for (YearMonth month = latest.plusMonths(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            // pmax 는 미래 구간이라 비어 있으므로 재구성이 즉시 끝남
+            jdbcTemplate.execute("ALTER TABLE notification REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                partitionDefinition(month) + ", PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("Added notification partition {}", month.format(PARTITION_NAME));
+        }
+    }
+
+    private List<String> dropExpiredPartitions(int maxTtlDays, Consumer<List<String>> onUnreadDropped) {
+        LocalDate cutoff = LocalDate.now().minusDays(maxTtlDays);
+        List<String> dropped = new ArrayList<>();
+
+        for (String name : partitionNames()) {
+            if (MAX_PARTITION.equals(name)) {
+                continue;
+            }
+            // 파티션의 마지막 날까지 보관 기간이 모두 지난 경우에만 삭제
+            LocalDate upperBound = YearMonth.parse(name, PARTITION_NAME).plusMonths(1).atDay(1);
+            if (upperBound.isAfter(cutoff)) {
+                continue;
+            }
+
+            List<String> unreadUserIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM notification PARTITION (" + name + ") WHERE is_read = false",
+                String.class);
+            jdbcTemplate.execute("ALTER TABLE notification DROP PARTITION " + name);
+            onUnreadDropped.accept(unreadUserIds);
+            dropped.add(name);
+            log.info("Dropped notification partition {}", name);
+        }
+        return dropped;
+    }
+
+    private Set<String> partitionNames() {
+        return describe().stream()
+            .map(partition -> (String) partition.get("name"))
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private List<String> findConstraints(String type) {
+        return jdbcTemplate.queryForList(
+            "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' AND CONSTRAINT_TYPE = ?",
+            String.class, type);
+    }
+
+    private String partitionDefinition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME) +
+            " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,42 @@
+package com.wudc.storypool.domain.notification.service;
+
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@Getter @Setter
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+    private boolean enabled = true;
+    private long intervalMs = 3_600_000L;
+    private int defaultTtlDays = 90;
+    private Map<NotificationType, Integer> ttlDays = new EnumMap<>(NotificationType.class);
+    private int chunkSize = 1000;
+    private long chunkPauseMs = 50L;
+    private int maxPerUser = 1000;
+    private Partitioning partitioning = new Partitioning();
+
+    /**
+     * 월 단위 RANGE 파티션. 켜면 가장 긴 보관 기간이 지난 달의 파티션을 통째로 삭제합니다.
+     */
+    @Getter @Setter
+    public static class Partitioning {
+        private boolean enabled = false;
+        private int monthsAhead = 3;
+    }
+
+    public int ttlDaysOf(NotificationType type) {
+        return ttlDays.getOrDefault(type, defaultTtlDays);
+    }
+
+    public int maxTtlDays() {
+        return Arrays.stream(NotificationType.values()).mapToInt(this::ttlDaysOf).max().orElse(defaultTtlDays);
+    }
+}
@@ -0,0 +1,269 @@
+package com.wudc.storypool.domain.notification.service;
+
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 보관 기간 관리.
+ *
+ * - 유형별 보관 기간이 지난 알림을 chunkSize 개씩 나눠 지워 한 번에 긴 잠금을 잡지 않습니다.
+ * - 최근 알림을 받은 사용자 중 maxPerUser 개를 넘긴 사용자는 오래된 알림부터 지워, 알림이 많은 사용자도
+ *   목록 조회가 읽는 인덱스 범위가 일정하게 유지됩니다.
+ * - 파티션을 켜면 가장 긴 보관 기간이 지난 월 파티션은 DROP PARTITION 으로 즉시 삭제합니다.
+ *
+ * 여러 노드 중 Redis 잠금을 얻은 한 노드만 실행합니다. 묶음 사이에 쉬며 오래 걸릴 수 있으므로
+ * 다른 @Scheduled 작업과 함께 쓰는 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다.
+ */
+@Component
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final String LOCK_KEY = "notification:retention:lock";
+    private static final String RECIPIENTS_KEY = "notification:retention:recipients";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final int COMPACTION_USERS_PER_RUN = 1000;
+
+    // 잠금이 만료되어 다른 노드가 가져간 뒤에는 지우지 않도록 값 확인과 삭제를 한 번에 실행
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRetentionProperties properties;
+    private final NotificationPartitionManager partitionManager;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "notification-retention");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    // 진행 상황 (Actuator 로 노출)
+    private volatile boolean running;
+    private volatile Instant lastStartedAt;
+    private volatile Instant lastFinishedAt;
+    private volatile String lastError;
+    private volatile List<String> droppedPartitions = List.of();
+    private final Map<NotificationType, AtomicLong> deletedByType = new ConcurrentHashMap<>();
+    private final AtomicLong compacted = new AtomicLong();
+
+    public NotificationRetentionService(
+        JdbcTemplate jdbcTemplate,
+        StringRedisTemplate stringRedisTemplate,
+        NotificationRetentionProperties properties,
+        NotificationPartitionManager partitionManager,
+        UnreadNotificationCounter unreadNotificationCounter
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.properties = properties;
+        this.partitionManager = partitionManager;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+    }
+
+    /**
+     * 알림을 받은 사용자를 개수 정리 대상으로 기록합니다.
+     */
+    public void recordRecipients(Collection<String> userIds) {
+        if (!userIds.isEmpty()) {
+            stringRedisTemplate.opsForSet().add(RECIPIENTS_KEY, userIds.toArray(String[]::new));
+        }
+    }
+
+    /**
+     * 탈퇴한 사용자의 알림을 모두 지웁니다. notification.user_id 에는 외래 키가 없어 DB 가 대신 지워 주지 않습니다.
+     * 사용자당 알림은 maxPerUser 근처로 유지되므로 요청 스레드에서 쉬지 않고 묶음 단위로 지웁니다.
+     */
+    public long deleteAllForUser(String userId) {
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = jdbcTemplate.update("DELETE FROM notification WHERE user_id = ? LIMIT ?", userId, properties.getChunkSize());
+            deleted += chunk;
+        } while (chunk == properties.getChunkSize());
+
+        stringRedisTemplate.opsForSet().remove(RECIPIENTS_KEY, userId);
+        unreadNotificationCounter.evict(List.of(userId));
+        return deleted;
+    }
+
+    /**
+     * 스케줄러 스레드는 정리 작업을 전용 스레드에 넘기기만 합니다. 이전 작업이 아직 돌고 있으면 건너뜁니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.retention.intervalMs:3600000}",
+               initialDelayString = "${notification.retention.initialDelayMs:60000}")
+    public void schedulePurge() {
+        if (!properties.isEnabled() || !queued.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                purge();
+            } finally {
+                queued.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void purge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        running = true;
+        lastStartedAt = Instant.now();
+        lastError = null;
+        deletedByType.clear();
+        compacted.set(0);
+        try {
+            if (properties.getPartitioning().isEnabled()) {
+                droppedPartitions = partitionManager.maintain(properties.getPartitioning().getMonthsAhead(),
+                        properties.maxTtlDays(), unreadNotificationCounter::evict);
+            }
+            for (NotificationType type : NotificationType.values()) {
+                deleteExpired(type);
+            }
+            compact();
+            log.info("Notification retention finished. deleted: {} compacted: {} droppedPartitions: {}",
+                    deletedByType, compacted.get(), droppedPartitions);
+        } catch (Exception e) {
+            lastError = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Notification retention failed", e);
+        } finally {
+            running = false;
+            lastFinishedAt = Instant.now();
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), nodeId);
+        }
+    }
+
+    public Map<String, Object> progress() {
+        Map<String, Object> progress = new LinkedHashMap<>();
+        progress.put("running", running);
+        progress.put("lastStartedAt", lastStartedAt);
+        progress.put("lastFinishedAt", lastFinishedAt);
+        progress.put("lastError", lastError);
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        deletedByType.forEach((type, count) -> deleted.put(type.name(), count.get()));
+        progress.put("deletedByType", deleted);
+        progress.put("compacted", compacted.get());
+        progress.put("droppedPartitions", droppedPartitions);
+        return progress;
+    }
+
+    private void deleteExpired(NotificationType type) throws InterruptedException {
+        int ttlDays = properties.ttlDaysOf(type);
+        AtomicLong deleted = deletedByType.computeIfAbsent(type, key -> new AtomicLong());
+
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT id, user_id, is_read = false AS unread FROM notification " +
+                "WHERE type = ? AND created_at < NOW(6) - INTERVAL ? DAY LIMIT ?",
+                type.name(), ttlDays, properties.getChunkSize());
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            deleted.addAndGet(deleteRows(rows));
+            if (rows.size() < properties.getChunkSize()) {
+                return;
+            }
+            Thread.sleep(properties.getChunkPauseMs());
+        }
+    }
+
+    private void compact() throws InterruptedException {
+        List<String> userIds = stringRedisTemplate.opsForSet().pop(RECIPIENTS_KEY, COMPACTION_USERS_PER_RUN);
+        if (userIds == null) {
+            return;
+        }
+
+        for (String userId : userIds) {
+            // 남길 알림 중 가장 오래된 것 바로 다음 (지울 알림 중 가장 최신)
+            List<Map<String, Object>> boundary = jdbcTemplate.queryForList(
+                "SELECT created_at, id FROM notification WHERE user_id = ? " +
+                "ORDER BY created_at DESC, id DESC LIMIT 1 OFFSET ?",
+                userId, properties.getMaxPerUser());
+            if (boundary.isEmpty()) {
+                continue;
+            }
+
+            Object createdAt = boundary.get(0).get("created_at");
+            Object id = boundary.get(0).get("id");
+            while (true) {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, user_id, is_read = false AS unread FROM notification WHERE user_id = ? " +
+                    "AND (created_at < ? OR (created_at = ? AND id <= ?)) LIMIT ?",
+                    userId, createdAt, createdAt, id, properties.getChunkSize());
+                if (rows.isEmpty()) {
+                    break;
+                }
+
+                compacted.addAndGet(deleteRows(rows));
+                if (rows.size() < properties.getChunkSize()) {
+                    break;
+                }
+                Thread.sleep(properties.getChunkPauseMs());
+            }
+        }
+    }
+
+    /**
+     * 한 묶음을 짧은 트랜잭션(자동 커밋) 하나로 지우고, 읽지 않은 알림이 지워진 사용자의 카운터를 다시 계산하게 합니다.
+     */
+    private int deleteRows(List<Map<String, Object>> rows) {
+        List<Object> ids = new ArrayList<>(rows.size());
+        Set<String> unreadUserIds = new LinkedHashSet<>();
+        for (Map<String, Object> row : rows) {
+            ids.add(row.get("id"));
+            if (((Number) row.get("unread")).intValue() == 1) {
+                unreadUserIds.add((String) row.get("user_id"));
+            }
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        int deleted = jdbcTemplate.update("DELETE FROM notification WHERE id IN (" + placeholders + ")", ids.toArray());
+        unreadNotificationCounter.evict(unreadUserIds);
+        return deleted;
+    }
+}
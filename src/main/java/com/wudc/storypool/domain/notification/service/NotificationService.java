@@ -5,6 +5,7 @@ import com.wudc.storypool.common.exception.ErrorCode;
 import com.wudc.storypool.domain.notification.controller.response.DeleteNotificationResponse;
 import com.wudc.storypool.domain.notification.controller.response.MarkReadResponse;
 import com.wudc.storypool.domain.notification.controller.response.NotificationListResponse;
+import com.wudc.storypool.domain.notification.controller.response.UnreadCountResponse;
 import com.wudc.storypool.domain.notification.entity.Notification;
 import com.wudc.storypool.domain.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
 
     @Transactional(readOnly = true)
     public NotificationListResponse getNotifications(String userId, int limit, String cursor, boolean unread) {
@@ -76,6 +78,10 @@ public class NotificationService {
         return new NotificationListResponse(notificationItems, hasNext, nextCursor);
     }
 
+    public UnreadCountResponse getUnreadCount(String userId) {
+        return new UnreadCountResponse(unreadNotificationCounter.get(userId));
+    }
+
     @Transactional
     public MarkReadResponse markNotificationsAsRead(String userId, List<String> notificationIds) {
         log.info("Marking {} notifications as read for user: {}", notificationIds != null ? notificationIds.size() : 0, userId);
@@ -86,6 +92,7 @@ public class NotificationService {
         }
 
         int updatedCount = notificationRepository.markAsReadByIdsAndUserId(notificationIds, userId);
+        unreadNotificationCounter.decrementAfterCommit(userId, updatedCount);
         log.info("Successfully marked {} notifications as read for user: {}", updatedCount, userId);
         return new MarkReadResponse(updatedCount);
     }
@@ -94,13 +101,16 @@ public class NotificationService {
     public DeleteNotificationResponse deleteNotification(String userId, String notificationId) {
         log.info("Deleting notification: {} for user: {}", notificationId, userId);
         
-        int count = notificationRepository.countByIdAndUserId(notificationId, userId);
-        if (count == 0) {
-            log.warn("Notification not found or access denied: {} for user: {}", notificationId, userId);
-            throw new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND);
-        }
+        Boolean isRead = notificationRepository.findIsReadByIdAndUserId(notificationId, userId)
+            .orElseThrow(() -> {
+                log.warn("Notification not found or access denied: {} for user: {}", notificationId, userId);
+                return new BaseException(ErrorCode.NOTIFICATION_NOT_FOUND);
+            });
 
         notificationRepository.deleteById(notificationId);
+        if (!isRead) {
+            unreadNotificationCounter.decrementAfterCommit(userId, 1);
+        }
         log.info("Successfully deleted notification: {} for user: {}", notificationId, userId);
         return new DeleteNotificationResponse(true);
     }
@@ -2,6 +2,7 @@ package com.wudc.storypool.domain.notification.service;
 
 import com.wudc.storypool.domain.notification.entity.NotificationSettings;
 import com.wudc.storypool.domain.notification.repository.NotificationSettingsRepository;
+import com.wudc.storypool.global.cache.EntityCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationSettingsService {
 
     private final NotificationSettingsRepository notificationSettingsRepository;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     @Transactional(readOnly = true)
     public NotificationSettings getSettings(String userId) {
@@ -29,6 +31,7 @@ public class NotificationSettingsService {
 
         settings.updateSettings(pushEnabled, emailEnabled, onComment, onReply, onLike, onFairytaleComplete);
         NotificationSettings savedSettings = notificationSettingsRepository.save(settings);
+        entityCacheInvalidator.evict(NotificationSettings.class, savedSettings.getId());
         
         log.info("Notification settings updated for user: {}", userId);
         return savedSettings;
@@ -42,6 +45,9 @@ public class NotificationSettingsService {
 
         NotificationSettings defaultSettings = NotificationSettings.createDefault(userId);
         NotificationSettings savedSettings = notificationSettingsRepository.save(defaultSettings);
+        // 다른 노드에 캐시된 "설정 없음" 조회 결과 제거
+        entityCacheInvalidator.evict(NotificationSettings.class, savedSettings.getId(),
+                NotificationSettingsRepository.QUERY_CACHE_REGION);
         
         log.info("Default notification settings created for user: {}", userId);
         return savedSettings;
@@ -0,0 +1,35 @@
+package com.wudc.storypool.domain.notification.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 기동 시 notification.type 컬럼이 MySQL ENUM 으로 만들어져 있으면 VARCHAR 로 바꿉니다.
+ * ddl-auto=update 는 기존 컬럼 타입을 바꾸지 않으므로, 그대로 두면 새 알림 유형을 저장할 수 없습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationTypeColumnInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        List<String> columnTypes = jdbcTemplate.queryForList(
+            "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notification' AND COLUMN_NAME = 'type'",
+            String.class);
+
+        if (!columnTypes.isEmpty() && "enum".equalsIgnoreCase(columnTypes.get(0))) {
+            log.info("Converting notification.type column from ENUM to VARCHAR");
+            jdbcTemplate.execute("ALTER TABLE notification MODIFY COLUMN type VARCHAR(32) NOT NULL");
+        }
+    }
+}
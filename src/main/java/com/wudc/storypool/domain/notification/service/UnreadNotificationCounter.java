@@ -0,0 +1,146 @@
+package com.wudc.storypool.domain.notification.service;
+
+import com.wudc.storypool.domain.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 읽지 않은 알림 수를 Redis 에 유지합니다. 배지 조회는 Redis GET 한 번으로 끝납니다.
+ *
+ * 키가 없으면 조회 시 DB 에서 한 번 세어 채우고, 키가 있을 때만 증감하므로 초기화 전 증감이 섞이지 않습니다.
+ * 증감된 사용자는 보정 대상 집합에 넣어 두고, 주기적으로 DB 값으로 다시 맞춰 동시성으로 생긴 오차를 바로잡습니다.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final String DIRTY_KEY = "notification:unread-dirty";
+
+    // 키가 있을 때만 증감하고 0 아래로 내려가지 않게 함. 키가 없으면 -1
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+        "local value = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+        "if value < 0 then redis.call('SET', KEYS[1], 0, 'KEEPTTL') value = 0 end " +
+        "return value",
+        Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+    private final int reconcileBatchSize;
+
+    public UnreadNotificationCounter(
+        StringRedisTemplate stringRedisTemplate,
+        NotificationRepository notificationRepository,
+        @Value("${notification.unreadCount.ttlSeconds:604800}") long ttlSeconds,
+        @Value("${notification.unreadCount.reconcileBatchSize:500}") int reconcileBatchSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public long get(String userId) {
+        String cached = stringRedisTemplate.opsForValue().get(key(userId));
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long count = notificationRepository.countUnreadByUserId(userId);
+        // 그 사이 다른 요청이 먼저 채웠으면 그 값을 유지
+        stringRedisTemplate.opsForValue().setIfAbsent(key(userId), Long.toString(count), ttl);
+        markDirty(userId);
+        return count;
+    }
+
+    /**
+     * 알림 저장 직후 호출 (이미 커밋된 경우)
+     */
+    public void increment(Map<String, Long> countsByUserId) {
+        countsByUserId.forEach(this::add);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 감소시킵니다. 트랜잭션 밖에서는 바로 감소시킵니다.
+     */
+    public void decrementAfterCommit(String userId, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(userId, -delta);
+                }
+            });
+        } else {
+            add(userId, -delta);
+        }
+    }
+
+    /**
+     * 알림이 일괄 삭제된 사용자의 카운터를 지워 다음 조회 때 DB 에서 다시 세게 합니다.
+     */
+    public void evict(Collection<String> userIds) {
+        if (!userIds.isEmpty()) {
+            stringRedisTemplate.delete(userIds.stream().map(this::key).toList());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.unreadCount.reconcileIntervalMs:60000}")
+    public void reconcile() {
+        try {
+            List<String> userIds = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, reconcileBatchSize);
+            if (userIds == null || userIds.isEmpty()) {
+                return;
+            }
+
+            Map<String, Long> counts = new HashMap<>();
+            userIds.forEach(userId -> counts.put(userId, 0L));
+            for (Object[] row : notificationRepository.countUnreadGroupByUserId(userIds)) {
+                counts.put((String) row[0], (Long) row[1]);
+            }
+
+            counts.forEach((userId, count) ->
+                stringRedisTemplate.opsForValue().set(key(userId), Long.toString(count), ttl));
+            log.debug("Reconciled unread notification counts for {} user(s)", counts.size());
+        } catch (Exception e) {
+            log.error("Failed to reconcile unread notification counts", e);
+        }
+    }
+
+    private void add(String userId, long delta) {
+        try {
+            stringRedisTemplate.execute(ADD_SCRIPT, List.of(key(userId)), Long.toString(delta));
+            markDirty(userId);
+        } catch (Exception e) {
+            // 다음 보정 또는 만료 후 재계산 시 바로잡힘
+            log.warn("Failed to update unread notification count for user: {}", userId, e);
+        }
+    }
+
+    private void markDirty(String userId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, userId);
+    }
+
+    private String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
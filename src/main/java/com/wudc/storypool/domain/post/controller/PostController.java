@@ -18,6 +18,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -36,8 +37,10 @@ public class PostController {
     })
     @GetMapping
     public PostListResponse getPosts(
-        @RequestParam(defaultValue = "latest") String sortBy, // latest, popular
+        @RequestParam(defaultValue = "latest") String sortBy, // latest, popular, trending
         @RequestParam(required = false) String keyword,
+        @Parameter(description = "태그 필터 (여러 개 지정 시 모든 태그를 가진 게시글, 최신순)")
+        @RequestParam(required = false) List<String> tag,
         @RequestParam(required = false) String after,
         @RequestParam(defaultValue = "20") int limit
     ) {
@@ -52,9 +55,33 @@ public class PostController {
             // 비로그인 사용자인 경우 null로 처리
         }
         
+        if (tag != null && !tag.isEmpty()) {
+            return postService.getPostsListByTags(currentUserId, tag, after, limit);
+        }
         return postService.getPostsList(currentUserId, sortBy, keyword, after, limit);
     }
 
+    @Operation(summary = "태그 자동완성", description = "입력한 접두어로 시작하는 태그를 게시글 수가 많은 순으로 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "태그 자동완성 조회 성공"),
+        @ApiResponse(responseCode = "500", description = "서버 내부 오류")
+    })
+    @GetMapping("/tags/autocomplete")
+    public TagAutocompleteResponse autocompleteTags(
+        @Parameter(description = "태그 접두어", example = "동물")
+        @RequestParam String prefix,
+        @Parameter(description = "최대 개수", example = "10")
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        if (limit > 20) limit = 20;
+        if (limit < 1) limit = 1;
+
+        List<TagAutocompleteResponse.TagItem> tags = postService.autocompleteTags(prefix, limit).stream()
+            .map(tagCount -> new TagAutocompleteResponse.TagItem(tagCount.tag(), tagCount.postCount()))
+            .toList();
+        return new TagAutocompleteResponse(tags);
+    }
+
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다. 비로그인 사용자도 접근 가능합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "게시글 상세 조회 성공"),
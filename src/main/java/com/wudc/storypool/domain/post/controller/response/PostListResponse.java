@@ -8,6 +8,17 @@ public record PostListResponse(
     boolean hasNext,
     String nextCursor
 ) {
+    /**
+     * 사용자별 값(좋아요 여부, 본인 글 여부)을 제거한 공용 응답
+     */
+    public PostListResponse withoutViewerFlags() {
+        return new PostListResponse(
+            posts.stream().map(item -> item.withViewerFlags(false, false)).toList(),
+            hasNext,
+            nextCursor
+        );
+    }
+
     public record PostItem(
         String id,
         String title,
@@ -21,8 +32,33 @@ public record PostListResponse(
         boolean isMyPost,
         AuthorInfo author,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
-    ) {}
+        LocalDateTime updatedAt,
+        String highlight
+    ) {
+        public PostItem(
+            String id,
+            String title,
+            String contentPreview,
+            List<String> tags,
+            String thumbnailUrl,
+            Long viewCount,
+            Long commentCount,
+            Long likeCount,
+            boolean isLiked,
+            boolean isMyPost,
+            AuthorInfo author,
+            LocalDateTime createdAt,
+            LocalDateTime updatedAt
+        ) {
+            this(id, title, contentPreview, tags, thumbnailUrl, viewCount, commentCount, likeCount,
+                isLiked, isMyPost, author, createdAt, updatedAt, null);
+        }
+
+        public PostItem withViewerFlags(boolean isLiked, boolean isMyPost) {
+            return new PostItem(id, title, contentPreview, tags, thumbnailUrl, viewCount, commentCount, likeCount,
+                isLiked, isMyPost, author, createdAt, updatedAt, highlight);
+        }
+    }
 
     public record AuthorInfo(
         String id,
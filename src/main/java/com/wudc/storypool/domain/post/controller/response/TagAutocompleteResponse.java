@@ -0,0 +1,12 @@
+package com.wudc.storypool.domain.post.controller.response;
+
+import java.util.List;
+
+public record TagAutocompleteResponse(
+    List<TagItem> tags
+) {
+    public record TagItem(
+        String tag,
+        int postCount
+    ) {}
+}
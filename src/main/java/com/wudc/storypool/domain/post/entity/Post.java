@@ -3,6 +3,8 @@ package com.wudc.storypool.domain.post.entity;
 import com.wudc.storypool.common.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,8 +14,19 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+// 카운터 컬럼은 원자적 UPDATE 로만 바꾸므로, 수정 시 읽어 둔 값으로 덮어쓰지 않도록 바뀐 컬럼만 UPDATE
+@DynamicUpdate
+@Table(indexes = {
+    @Index(name = "idx_post_popularity_score_id", columnList = "popularityScore, id")
+})
 public class Post extends BaseEntity {
 
+    /**
+     * 인기 점수 계산식 (좋아요 + 댓글 + 조회수/10 을 정수로 유지하기 위해 10배한 값).
+     * 카운터를 변경하는 UPDATE 문에서 같은 식으로 popularity_score 를 함께 갱신합니다.
+     */
+    public static final String POPULARITY_SCORE_SQL = "like_count * 10 + comment_count * 10 + view_count";
+
     @Column(nullable = false)
     private String userId;
 
@@ -31,6 +44,10 @@ public class Post extends BaseEntity {
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
 
+    // 전문 검색(FULLTEXT) 인덱스용 태그 문자열 (공백으로 연결)
+    @Column(columnDefinition = "TEXT")
+    private String tagText;
+
     @Column(nullable = false)
     private Long viewCount = 0L;
 
@@ -40,6 +57,11 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Long commentCount = 0L;
 
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private Long popularityScore = 0L;
+
     public static Post create(String userId, String title, String content, String fairytaleId, List<String> tags) {
         return Post.builder()
                 .userId(userId)
@@ -47,9 +69,11 @@ public class Post extends BaseEntity {
                 .content(content)
                 .fairytaleId(fairytaleId)
                 .tags(tags != null ? new ArrayList<>(tags) : new ArrayList<>())
+                .tagText(toTagText(tags))
                 .viewCount(0L)
                 .likeCount(0L)
                 .commentCount(0L)
+                .popularityScore(0L)
                 .build();
     }
 
@@ -58,6 +82,11 @@ public class Post extends BaseEntity {
         this.content = content;
         this.fairytaleId = fairytaleId;
         this.tags = tags != null ? new ArrayList<>(tags) : new ArrayList<>();
+        this.tagText = toTagText(tags);
+    }
+
+    private static String toTagText(List<String> tags) {
+        return tags != null ? String.join(" ", tags) : "";
     }
 
     public void incrementViewCount() {
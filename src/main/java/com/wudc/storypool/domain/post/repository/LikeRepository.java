@@ -1,12 +1,16 @@
 package com.wudc.storypool.domain.post.repository;
 
 import com.wudc.storypool.domain.post.entity.Like;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +24,22 @@ public interface LikeRepository extends JpaRepository<Like, String> {
     @Query("SELECT l.postId FROM Like l WHERE l.userId = :userId AND l.postId IN :postIds")
     List<String> findLikedPostIdsByUserIdAndPostIds(@Param("userId") String userId, @Param("postIds") List<String> postIds);
 
+    // 좋아요 추가 (이미 존재하면 무시, 추가된 행 수 반환)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post_like"))
+    @Query(value = "INSERT IGNORE INTO post_like (id, user_id, post_id, created_at, updated_at) " +
+                   "VALUES (:id, :userId, :postId, NOW(6), NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("id") String id, @Param("userId") String userId, @Param("postId") String postId);
+
+    // 좋아요 시각 조회 (취소 시 트렌딩 점수를 좋아요 시각 기준으로 되돌림)
+    @Query("SELECT l.createdAt FROM Like l WHERE l.userId = :userId AND l.postId = :postId")
+    Optional<Instant> findCreatedAtByUserIdAndPostId(@Param("userId") String userId, @Param("postId") String postId);
+
+    // 좋아요 취소 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.userId = :userId AND l.postId = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") String userId, @Param("postId") String postId);
+
     // 특정 게시글의 좋아요 수 조회
     @Query("SELECT COUNT(l) FROM Like l WHERE l.postId = :postId")
     long countByPostId(@Param("postId") String postId);
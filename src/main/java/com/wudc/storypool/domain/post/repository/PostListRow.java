@@ -0,0 +1,16 @@
+package com.wudc.storypool.domain.post.repository;
+
+/**
+ * 게시글 목록 한 건에 필요한 부가 정보 (작성자, 썸네일, 태그, 좋아요 여부)
+ */
+public interface PostListRow {
+    String getId();
+    String getAuthorId();
+    String getAuthorEmail();
+    String getAuthorNickname();
+    String getAuthorProfileImageUrl();
+    String getThumbnailUrl();
+    // TAG_SEPARATOR 로 연결된 태그 목록
+    String getTags();
+    Integer getLiked();
+}
@@ -0,0 +1,9 @@
+package com.wudc.storypool.domain.post.repository;
+
+/**
+ * 알림 대상 확인에 필요한 게시글 작성자와 제목
+ */
+public interface PostOwnerRow {
+    String getUserId();
+    String getTitle();
+}
@@ -1,9 +1,13 @@
 package com.wudc.storypool.domain.post.repository;
 
 import com.wudc.storypool.domain.post.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +17,9 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, String> {
 
+    String SEARCH_MATCH = "MATCH(p.title, p.content, p.tag_text) AGAINST (:query IN BOOLEAN MODE)";
+    String TAG_SEPARATOR = "\u001F";
+
     // 최신순 정렬 (기본)
     @Query("SELECT p FROM Post p ORDER BY p.id DESC")
     List<Post> findAllOrderByIdDesc(Pageable pageable);
@@ -20,12 +27,13 @@ public interface PostRepository extends JpaRepository<Post, String> {
     @Query("SELECT p FROM Post p WHERE p.id < :afterCursor ORDER BY p.id DESC")
     List<Post> findAllAfterCursorOrderByIdDesc(@Param("afterCursor") String afterCursor, Pageable pageable);
 
-    // 인기순 정렬 (좋아요 + 댓글 + 조회수 기준)
-    @Query("SELECT p FROM Post p ORDER BY (p.likeCount + p.commentCount + p.viewCount/10) DESC, p.id DESC")
+    // 인기순 정렬 (좋아요 + 댓글 + 조회수 기준, idx_post_popularity_score_id 사용)
+    @Query("SELECT p FROM Post p ORDER BY p.popularityScore DESC, p.id DESC")
     List<Post> findAllOrderByPopularityDesc(Pageable pageable);
 
-    @Query("SELECT p FROM Post p WHERE p.id < :afterCursor ORDER BY (p.likeCount + p.commentCount + p.viewCount/10) DESC, p.id DESC")
-    List<Post> findAllAfterCursorOrderByPopularityDesc(@Param("afterCursor") String afterCursor, Pageable pageable);
+    @Query("SELECT p FROM Post p WHERE p.popularityScore < :score OR (p.popularityScore = :score AND p.id < :afterId) " +
+           "ORDER BY p.popularityScore DESC, p.id DESC")
+    List<Post> findAllAfterCursorOrderByPopularityDesc(@Param("score") Long score, @Param("afterId") String afterId, Pageable pageable);
 
     // 검색 기능 (제목, 내용, 태그 검색)
     @Query("SELECT DISTINCT p FROM Post p LEFT JOIN p.tags t WHERE " +
@@ -43,6 +51,29 @@ public interface PostRepository extends JpaRepository<Post, String> {
            "ORDER BY p.id DESC")
     List<Post> findByKeywordAfterCursorOrderByIdDesc(@Param("keyword") String keyword, @Param("afterCursor") String afterCursor, Pageable pageable);
 
+    // 전문 검색 (ft_post_search FULLTEXT ngram 인덱스, 관련도순)
+    @Query(value = "SELECT p.id AS id, ROUND(" + SEARCH_MATCH + ", 6) AS score FROM post p " +
+                   "WHERE " + SEARCH_MATCH + " ORDER BY score DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<PostSearchHit> searchByRelevance(@Param("query") String query, @Param("limit") int limit);
+
+    @Query(value = "SELECT s.id AS id, s.score AS score FROM (" +
+                   "SELECT p.id AS id, ROUND(" + SEARCH_MATCH + ", 6) AS score FROM post p WHERE " + SEARCH_MATCH +
+                   ") s WHERE s.score < :score OR (s.score = :score AND s.id < :afterId) " +
+                   "ORDER BY s.score DESC, s.id DESC LIMIT :limit", nativeQuery = true)
+    List<PostSearchHit> searchByRelevanceAfterCursor(@Param("query") String query, @Param("score") double score,
+                                                     @Param("afterId") String afterId, @Param("limit") int limit);
+
+    // 목록 화면용 부가 정보를 한 번에 조회 (작성자, 썸네일, 태그, 현재 사용자의 좋아요 여부)
+    @Query(value = "SELECT p.id AS id, " +
+                   "u.id AS authorId, u.email AS authorEmail, u.nickname AS authorNickname, u.profile_image_url AS authorProfileImageUrl, " +
+                   "f.thumbnail_url AS thumbnailUrl, " +
+                   "(SELECT GROUP_CONCAT(t.tag SEPARATOR '" + TAG_SEPARATOR + "') FROM post_tags t WHERE t.post_id = p.id) AS tags, " +
+                   "CASE WHEN EXISTS (SELECT 1 FROM post_like l WHERE l.post_id = p.id AND l.user_id = :userId) THEN 1 ELSE 0 END AS liked " +
+                   "FROM post p LEFT JOIN user u ON u.id = p.user_id AND u.deleted = false " +
+                   "LEFT JOIN fairytale f ON f.id = p.fairytale_id " +
+                   "WHERE p.id IN (:postIds)", nativeQuery = true)
+    List<PostListRow> findListRowsByIds(@Param("postIds") List<String> postIds, @Param("userId") String userId);
+
     // 특정 사용자의 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.userId = :userId ORDER BY p.id DESC")
     List<Post> findByUserIdOrderByIdDesc(@Param("userId") String userId, Pageable pageable);
@@ -64,7 +95,26 @@ public interface PostRepository extends JpaRepository<Post, String> {
     @Query("SELECT p FROM Post p JOIN Like l ON p.id = l.postId WHERE l.userId = :userId AND l.id < :afterCursor ORDER BY l.id DESC")
     List<Post> findLikedPostsByUserIdAfterCursorOrderByLikeIdDesc(@Param("userId") String userId, @Param("afterCursor") String afterCursor, Pageable pageable);
 
+    // 작성자와 제목만 조회 (좋아요 토글이 게시글 엔티티 전체를 읽지 않도록)
+    @Query("SELECT p.userId AS userId, p.title AS title FROM Post p WHERE p.id = :postId")
+    Optional<PostOwnerRow> findOwnerRowById(@Param("postId") String postId);
+
     // 특정 동화와 연결된 게시글 수 조회
     @Query("SELECT COUNT(p) FROM Post p WHERE p.fairytaleId = :fairytaleId")
     long countByFairytaleId(@Param("fairytaleId") String fairytaleId);
+
+    // 좋아요 수 증감 (엔티티를 읽지 않고 원자적으로 반영, MySQL 은 SET 을 왼쪽부터 평가하므로 갱신된 값으로 점수 계산)
+    @Modifying
+    // 영향받는 테이블만 지정해 2차 캐시 전체가 비워지지 않도록 함
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "UPDATE post SET like_count = GREATEST(like_count + :delta, 0), " +
+                   "popularity_score = " + Post.POPULARITY_SCORE_SQL + " WHERE id = :postId", nativeQuery = true)
+    int addLikeCount(@Param("postId") String postId, @Param("delta") long delta);
+
+    // 댓글 수 증감
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "post"))
+    @Query(value = "UPDATE post SET comment_count = GREATEST(comment_count + :delta, 0), " +
+                   "popularity_score = " + Post.POPULARITY_SCORE_SQL + " WHERE id = :postId", nativeQuery = true)
+    int addCommentCount(@Param("postId") String postId, @Param("delta") long delta);
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package com.wudc.storypool.domain.post.repository;
+
+public interface PostSearchHit {
+    String getId();
+    Double getScore();
+}
@@ -0,0 +1,169 @@
+package com.wudc.storypool.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 게시글 목록 응답 중 사용자와 무관한 부분(좋아요 여부/본인 글 여부 제외)을 보관하는 2단 캐시입니다.
+ * 노드 로컬 Caffeine(L1) → Redis(L2) 순으로 조회하며, Redis 키에는 목록 버전이 포함되어
+ * 게시글 작성/수정/삭제 시 버전을 올리는 것만으로 모든 노드의 L2 항목이 무효화됩니다.
+ * L1 은 버전 변경 메시지를 받으면 비우고, 메시지가 늦더라도 짧은 TTL 이후 다시 L2 를 읽습니다.
+ * L2 항목은 Smile(바이너리 JSON)로 저장합니다.
+ */
+@Component
+@Slf4j
+public class PostFeedCache implements MessageListener {
+
+    public static final String CHANNEL = "cache:post-feed:evict";
+    private static final String KEY_PREFIX = "post-feed:";
+    private static final String VERSION_KEY = KEY_PREFIX + "version";
+    // JSON 문자열로 저장하던 이전 항목과 겹치지 않도록 별도 접두어 사용 (이전 항목은 TTL 후 만료)
+    private static final String ENTRY_PREFIX = KEY_PREFIX + "entry:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisTemplate<String, PostListResponse> postFeedRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final Cache<FeedKey, PostListResponse> localCache;
+    private final Duration ttl;
+
+    public record FeedKey(String sortBy, String keyword, String cursor, int limit) {}
+
+    /**
+     * 조회 결과. response 가 null 이면 캐시에 없으며, 조회 시점의 버전으로 store 해야 합니다.
+     */
+    public record Lookup(FeedKey key, String version, PostListResponse response) {}
+
+    public PostFeedCache(
+        StringRedisTemplate stringRedisTemplate,
+        RedisTemplate<String, PostListResponse> postFeedRedisTemplate,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        MeterRegistry meterRegistry,
+        @Value("${feedCache.localTtlSeconds:3}") long localTtlSeconds,
+        @Value("${feedCache.ttlSeconds:10}") long ttlSeconds,
+        @Value("${feedCache.maximumSize:1000}") long maximumSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postFeedRedisTemplate = postFeedRedisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.localCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.feed");
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public static FeedKey key(String sortBy, String keyword, String cursor, int limit) {
+        return new FeedKey(
+            sortBy,
+            keyword != null ? keyword.trim() : "",
+            cursor != null ? cursor.trim() : "",
+            limit
+        );
+    }
+
+    public Lookup lookup(FeedKey key) {
+        PostListResponse local = localCache.getIfPresent(key);
+        if (local != null) {
+            return new Lookup(key, null, local);
+        }
+
+        try {
+            String version = currentVersion();
+            PostListResponse response = postFeedRedisTemplate.opsForValue().get(redisKey(key, version));
+            if (response == null) {
+                return new Lookup(key, version, null);
+            }
+            localCache.put(key, response);
+            return new Lookup(key, version, response);
+        } catch (Exception e) {
+            log.warn("Failed to read post feed cache: {}", key, e);
+            return new Lookup(key, null, null);
+        }
+    }
+
+    /**
+     * 사용자 정보가 제거된 응답을 저장합니다. Redis 를 읽지 못했던 경우(version 없음)에는 로컬에만 저장합니다.
+     */
+    public void store(Lookup lookup, PostListResponse shared) {
+        localCache.put(lookup.key(), shared);
+        if (lookup.version() == null) {
+            return;
+        }
+
+        try {
+            postFeedRedisTemplate.opsForValue().set(redisKey(lookup.key(), lookup.version()), shared, ttl);
+        } catch (Exception e) {
+            log.warn("Failed to write post feed cache: {}", lookup.key(), e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 목록 버전을 올리고 모든 노드의 로컬 캐시를 비웁니다.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion();
+                }
+            });
+        } else {
+            bumpVersion();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        localCache.invalidateAll();
+    }
+
+    private void bumpVersion() {
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY);
+            stringRedisTemplate.convertAndSend(CHANNEL, String.valueOf(version));
+        } catch (Exception e) {
+            // 실패해도 캐시 항목은 TTL 이후 만료됨
+            log.warn("Failed to invalidate post feed cache", e);
+        }
+        localCache.invalidateAll();
+    }
+
+    private String currentVersion() {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY);
+        return version != null ? version : "0";
+    }
+
+    private static String redisKey(FeedKey key, String version) {
+        // 커서/키워드에 ':' 가 들어와도 키가 겹치지 않도록 인코딩
+        return ENTRY_PREFIX + version + ":" + key.sortBy() + ":" + key.limit() + ":"
+            + URLEncoder.encode(key.cursor(), StandardCharsets.UTF_8) + ":"
+            + URLEncoder.encode(key.keyword(), StandardCharsets.UTF_8);
+    }
+}
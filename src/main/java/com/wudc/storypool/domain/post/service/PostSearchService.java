@@ -0,0 +1,90 @@
+package com.wudc.storypool.domain.post.service;
+
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.repository.PostSearchHit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 게시글 전문 검색. 제목, 내용, 태그에 걸친 FULLTEXT(ngram) 인덱스로 관련도순 검색과 (관련도, id) 커서를 제공합니다.
+ * ngram 토큰보다 짧은 키워드는 인덱스로 찾을 수 없으므로 호출 측에서 LIKE 검색으로 대체합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int SNIPPET_RADIUS = 40;
+    private static final String HIGHLIGHT_OPEN = "<em>";
+    private static final String HIGHLIGHT_CLOSE = "</em>";
+
+    private final PostRepository postRepository;
+
+    @Value("${search.ngramTokenSize:2}")
+    private int ngramTokenSize;
+
+    public boolean supportsFullText(String keyword) {
+        return normalize(keyword).replace(" ", "").length() >= ngramTokenSize;
+    }
+
+    public List<PostSearchHit> search(String keyword, String afterCursor, int limit) {
+        String query = toPhraseQuery(keyword);
+
+        if (afterCursor == null || afterCursor.trim().isEmpty()) {
+            return postRepository.searchByRelevance(query, limit);
+        }
+
+        ScoreCursor cursor = ScoreCursor.decode(afterCursor.trim());
+        return postRepository.searchByRelevanceAfterCursor(query, cursor.score(), cursor.id(), limit);
+    }
+
+    /**
+     * 키워드가 처음 등장하는 위치 주변을 잘라 강조 표시한 스니펫. 본문, 제목 순으로 찾고 없으면 null (태그로만 일치한 경우)
+     */
+    public String highlight(Post post, String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        String snippet = snippet(post.getContent(), normalized);
+        return snippet != null ? snippet : snippet(post.getTitle(), normalized);
+    }
+
+    private String snippet(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+
+        int index = text.toLowerCase(Locale.ROOT).indexOf(keyword.toLowerCase(Locale.ROOT));
+        if (index < 0) {
+            return null;
+        }
+
+        int start = Math.max(0, index - SNIPPET_RADIUS);
+        int end = Math.min(text.length(), index + keyword.length() + SNIPPET_RADIUS);
+
+        // 사용자 입력이므로 HTML 이스케이프 후 강조 태그만 추가
+        return (start > 0 ? "…" : "")
+            + HtmlUtils.htmlEscape(text.substring(start, index))
+            + HIGHLIGHT_OPEN + HtmlUtils.htmlEscape(text.substring(index, index + keyword.length())) + HIGHLIGHT_CLOSE
+            + HtmlUtils.htmlEscape(text.substring(index + keyword.length(), end))
+            + (end < text.length() ? "…" : "");
+    }
+
+    /**
+     * BOOLEAN MODE 구문 검색으로 변환 (따옴표 안에서는 연산자가 문자 그대로 처리됨)
+     */
+    private String toPhraseQuery(String keyword) {
+        return "\"" + normalize(keyword) + "\"";
+    }
+
+    private String normalize(String keyword) {
+        return keyword == null ? "" : keyword.replace("\"", " ").trim().replaceAll("\\s+", " ");
+    }
+}
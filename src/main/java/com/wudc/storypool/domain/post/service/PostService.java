@@ -4,21 +4,30 @@ import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
 import com.wudc.storypool.domain.fairytale.entity.Fairytale;
 import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import com.wudc.storypool.domain.notification.service.NotificationEvent;
+import com.wudc.storypool.domain.notification.service.NotificationFanout;
 import com.wudc.storypool.domain.post.controller.response.PostDetailResponse;
 import com.wudc.storypool.domain.post.controller.response.PostListResponse;
-import com.wudc.storypool.domain.post.entity.Like;
 import com.wudc.storypool.domain.post.entity.Post;
 import com.wudc.storypool.domain.post.repository.LikeRepository;
+import com.wudc.storypool.domain.post.repository.PostListRow;
+import com.wudc.storypool.domain.post.repository.PostOwnerRow;
 import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.repository.PostSearchHit;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
+import com.wudc.storypool.global.counter.CounterBuffer;
+import com.wudc.storypool.global.counter.CounterType;
+import de.huxhorn.sulky.ulid.ULID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -32,26 +41,85 @@ public class PostService {
     private final LikeRepository likeRepository;
     private final FairytaleRepository fairytaleRepository;
     private final UserRepository userRepository;
+    private final CounterBuffer counterBuffer;
+    private final TrendingService trendingService;
+    private final PostSearchService postSearchService;
+    private final TagIndex tagIndex;
+    private final PostFeedCache postFeedCache;
+    private final NotificationFanout notificationFanout;
 
     @Transactional(readOnly = true)
     public PostListResponse getPostsList(String currentUserId, String sortBy, String keyword, String afterCursor, int limit) {
+        if (!isFeedCacheable(currentUserId, sortBy, keyword, afterCursor)) {
+            return loadPostsList(currentUserId, sortBy, keyword, afterCursor, limit);
+        }
+
+        // 공용 응답은 캐시에서, 사용자별 좋아요/본인 글 여부만 따로 반영
+        PostFeedCache.Lookup lookup = postFeedCache.lookup(PostFeedCache.key(sortBy, keyword, afterCursor, limit));
+        if (lookup.response() != null) {
+            return withViewerFlags(lookup.response(), currentUserId);
+        }
+
+        PostListResponse response = loadPostsList(currentUserId, sortBy, keyword, afterCursor, limit);
+        postFeedCache.store(lookup, response.withoutViewerFlags());
+        return response;
+    }
+
+    /**
+     * 트렌딩(순위가 계속 바뀜)을 제외한 첫 페이지와, 비로그인 사용자의 모든 페이지를 캐시합니다.
+     */
+    private boolean isFeedCacheable(String currentUserId, String sortBy, String keyword, String afterCursor) {
+        boolean hasKeyword = keyword != null && !keyword.trim().isEmpty();
+        if (!hasKeyword && "trending".equals(sortBy)) {
+            return false;
+        }
+        return currentUserId == null || afterCursor == null || afterCursor.trim().isEmpty();
+    }
+
+    private PostListResponse withViewerFlags(PostListResponse shared, String currentUserId) {
+        if (currentUserId == null || shared.posts().isEmpty()) {
+            return shared;
+        }
+
+        List<String> postIds = shared.posts().stream().map(PostListResponse.PostItem::id).collect(Collectors.toList());
+        Set<String> likedPostIds = new HashSet<>(likeRepository.findLikedPostIdsByUserIdAndPostIds(currentUserId, postIds));
+
+        List<PostListResponse.PostItem> items = shared.posts().stream()
+                .map(item -> item.withViewerFlags(
+                    likedPostIds.contains(item.id()),
+                    item.author() != null && currentUserId.equals(item.author().id())
+                ))
+                .collect(Collectors.toList());
+        return new PostListResponse(items, shared.hasNext(), shared.nextCursor());
+    }
+
+    private PostListResponse loadPostsList(String currentUserId, String sortBy, String keyword, String afterCursor, int limit) {
         Pageable pageable = PageRequest.of(0, limit + 1);
         List<Post> posts;
 
-        // 키워드 검색이 있는 경우
-        if (keyword != null && !keyword.trim().isEmpty()) {
+        // 키워드 검색 (전문 검색 인덱스 사용)
+        if (keyword != null && postSearchService.supportsFullText(keyword)) {
+            return getSearchPostsList(currentUserId, keyword, afterCursor, limit);
+        }
+        // 인덱스 토큰보다 짧은 키워드는 LIKE 검색
+        else if (keyword != null && !keyword.trim().isEmpty()) {
             if (afterCursor == null || afterCursor.trim().isEmpty()) {
                 posts = postRepository.findByKeywordOrderByIdDesc(keyword.trim(), pageable);
             } else {
                 posts = postRepository.findByKeywordAfterCursorOrderByIdDesc(keyword.trim(), afterCursor, pageable);
             }
         } 
+        // 트렌딩 정렬 (Redis ZSET 순위)
+        else if ("trending".equals(sortBy)) {
+            return getTrendingPostsList(currentUserId, afterCursor, limit);
+        }
         // 인기순 정렬
         else if ("popular".equals(sortBy)) {
             if (afterCursor == null || afterCursor.trim().isEmpty()) {
                 posts = postRepository.findAllOrderByPopularityDesc(pageable);
             } else {
-                posts = postRepository.findAllAfterCursorOrderByPopularityDesc(afterCursor, pageable);
+                ScoreCursor cursor = ScoreCursor.decode(afterCursor.trim());
+                posts = postRepository.findAllAfterCursorOrderByPopularityDesc((long) cursor.score(), cursor.id(), pageable);
             }
         }
         // 최신순 정렬 (기본)
@@ -68,75 +136,137 @@ public class PostService {
         if (hasNext) {
             posts = posts.subList(0, limit);
         }
-        String nextCursor = hasNext && !posts.isEmpty() ? 
-                           posts.get(posts.size() - 1).getId() : null;
+        String nextCursor = null;
+        if (hasNext && !posts.isEmpty()) {
+            Post last = posts.get(posts.size() - 1);
+            // 인기순은 (점수, id) 커서, 그 외는 id 커서
+            nextCursor = "popular".equals(sortBy) && (keyword == null || keyword.trim().isEmpty())
+                ? new ScoreCursor(last.getPopularityScore(), last.getId()).encode()
+                : last.getId();
+        }
 
-        // 사용자 정보와 좋아요 정보를 일괄 조회
-        List<String> userIds = posts.stream().map(Post::getUserId).distinct().collect(Collectors.toList());
-        List<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
-        List<String> fairytaleIds = posts.stream().map(Post::getFairytaleId).distinct().collect(Collectors.toList());
+        return new PostListResponse(toPostItems(posts, currentUserId), hasNext, nextCursor);
+    }
 
-        Map<String, User> userMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, user -> user));
+    /**
+     * 태그 필터 목록 (모든 태그를 가진 게시글, 최신순)
+     */
+    @Transactional(readOnly = true)
+    public PostListResponse getPostsListByTags(String currentUserId, List<String> tags, String afterCursor, int limit) {
+        String afterId = afterCursor == null || afterCursor.trim().isEmpty() ? null : afterCursor.trim();
+        List<Post> posts = new ArrayList<>(limit + 1);
+
+        // 색인에는 다른 노드에서 삭제된 게시글이 다음 재구성 전까지 남아 있으므로,
+        // 빠진 만큼 이어서 조회해 다음 페이지 판단용 1건까지 채움
+        while (posts.size() <= limit) {
+            int batchSize = limit + 1 - posts.size();
+            List<String> postIds = tagIndex.findPostIds(tags, afterId, batchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
 
-        Set<String> likedPostIds;
-        if (currentUserId != null) {
-            likedPostIds = new HashSet<>(likeRepository.findLikedPostIdsByUserIdAndPostIds(currentUserId, postIds));
-        } else {
-            likedPostIds = new HashSet<>();
+            Map<String, Post> postMap = postRepository.findAllById(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, post -> post));
+            postIds.stream()
+                    .map(postMap::get)
+                    .filter(Objects::nonNull)
+                    .forEach(posts::add);
+
+            if (postIds.size() < batchSize) {
+                break;
+            }
+            afterId = postIds.get(postIds.size() - 1);
         }
 
-        Map<String, Fairytale> fairytaleMap = fairytaleRepository.findAllById(fairytaleIds).stream()
-                .collect(Collectors.toMap(Fairytale::getId, fairytale -> fairytale));
+        return buildPostListResponse(posts, currentUserId, limit);
+    }
 
-        // PostItem 생성
-        List<PostListResponse.PostItem> postItems = posts.stream()
-                .map(post -> {
-                    User author = userMap.get(post.getUserId());
-                    Fairytale fairytale = fairytaleMap.get(post.getFairytaleId());
-                    String thumbnailUrl = fairytale != null && fairytale.getThumbnailPage() != null ? 
-                                         fairytale.getThumbnailPage().getImageUrl() : null;
-                    
-                    return new PostListResponse.PostItem(
-                        post.getId(),
-                        post.getTitle(),
-                        post.getContentPreview(),
-                        post.getTags(),
-                        thumbnailUrl,
-                        post.getViewCount(),
-                        post.getCommentCount(),
-                        post.getLikeCount(),
-                        currentUserId != null && likedPostIds.contains(post.getId()),
-                        currentUserId != null && currentUserId.equals(post.getUserId()),
-                        author != null ? new PostListResponse.AuthorInfo(
-                            author.getId(),
-                            author.getEmail(),
-                            author.getNickname(),
-                            author.getProfileImageUrl()
-                        ) : null,
-                        post.getCreatedAtByLocalDateTime(),
-                        post.getUpdatedAtByLocalDateTime()
-                    );
-                })
+    public List<TagIndex.TagCount> autocompleteTags(String prefix, int limit) {
+        return tagIndex.autocomplete(prefix, limit);
+    }
+
+    private PostListResponse getSearchPostsList(String currentUserId, String keyword, String afterCursor, int limit) {
+        List<PostSearchHit> hits = postSearchService.search(keyword, afterCursor, limit + 1);
+        boolean hasNext = hits.size() > limit;
+        if (hasNext) {
+            hits = hits.subList(0, limit);
+        }
+
+        // 관련도 순서를 유지하며 한 번에 조회
+        List<String> postIds = hits.stream().map(PostSearchHit::getId).collect(Collectors.toList());
+        Map<String, Post> postMap = postRepository.findAllById(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = postIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        return new PostListResponse(postItems, hasNext, nextCursor);
+        Map<String, String> highlights = new HashMap<>();
+        for (Post post : posts) {
+            String highlight = postSearchService.highlight(post, keyword);
+            if (highlight != null) {
+                highlights.put(post.getId(), highlight);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext && !hits.isEmpty()) {
+            PostSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new ScoreCursor(last.getScore(), last.getId()).encode();
+        }
+        return new PostListResponse(toPostItems(posts, currentUserId, highlights), hasNext, nextCursor);
     }
 
-    @Transactional
+    private PostListResponse getTrendingPostsList(String currentUserId, String afterCursor, int limit) {
+        long offset = 0;
+        if (afterCursor != null && !afterCursor.trim().isEmpty()) {
+            try {
+                offset = Long.parseLong(afterCursor.trim());
+            } catch (NumberFormatException e) {
+                throw new BaseException(ErrorCode.INVALID_CURSOR);
+            }
+            if (offset < 0) {
+                throw new BaseException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        List<String> rankedIds = trendingService.getRankedPostIds(offset, limit + 1);
+        boolean hasNext = rankedIds.size() > limit;
+        if (hasNext) {
+            rankedIds = rankedIds.subList(0, limit);
+        }
+
+        // 순위 순서를 유지하며 한 번에 조회
+        Map<String, Post> postMap = postRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Post::getId, post -> post));
+        List<Post> posts = rankedIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        if (posts.size() < rankedIds.size()) {
+            trendingService.removeAll(rankedIds.stream().filter(id -> !postMap.containsKey(id)).toList());
+        }
+
+        String nextCursor = hasNext ? String.valueOf(offset + limit) : null;
+        return new PostListResponse(toPostItems(posts, currentUserId), hasNext, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(String currentUserId, String postId) {
-        // 게시글 조회 및 조회수 증가
+        // 게시글 조회
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> {
                     log.warn("Post not found: {}", postId);
                     return new BaseException(ErrorCode.POST_NOT_FOUND);
                 });
 
-        // 조회수 증가 (본인 게시글이 아닌 경우에만)
+        // 조회수 증가 (본인 게시글이 아닌 경우에만, Redis 에 누적 후 주기적으로 DB 반영)
         if (currentUserId == null || !currentUserId.equals(post.getUserId())) {
-            post.incrementViewCount();
-            postRepository.save(post);
+            counterBuffer.increment(CounterType.POST_VIEW, postId);
+            trendingService.recordView(postId);
         }
+        long viewCount = post.getViewCount() + counterBuffer.getPendingDelta(CounterType.POST_VIEW, postId);
 
         // 작성자 정보 조회
         User author = userRepository.findById(post.getUserId())
@@ -176,7 +306,7 @@ public class PostService {
             post.getTitle(),
             post.getContent(),
             post.getTags(),
-            post.getViewCount(),
+            viewCount,
             post.getCommentCount(),
             post.getLikeCount(),
             isLiked,
@@ -204,6 +334,9 @@ public class PostService {
 
         Post post = Post.create(userId, title, content, fairytaleId, tags);
         Post savedPost = postRepository.save(post);
+        trendingService.recordCreated(savedPost.getId());
+        tagIndex.onPostSaved(savedPost.getId(), List.of(), savedPost.getTags());
+        postFeedCache.invalidate();
         
         log.info("Post created successfully: {} by user: {}", savedPost.getId(), userId);
         return savedPost;
@@ -230,8 +363,11 @@ public class PostService {
                     return new BaseException(ErrorCode.FAIRYTALE_NOT_FOUND);
                 });
 
+        List<String> oldTags = new ArrayList<>(post.getTags());
         post.updateContent(title, content, fairytaleId, tags);
         Post updatedPost = postRepository.save(post);
+        tagIndex.onPostSaved(postId, oldTags, updatedPost.getTags());
+        postFeedCache.invalidate();
         
         log.info("Post updated successfully: {} by user: {}", postId, userId);
         return updatedPost;
@@ -255,44 +391,45 @@ public class PostService {
         likeRepository.deleteByPostId(postId);
         
         // 게시글 삭제
+        List<String> tags = new ArrayList<>(post.getTags());
         postRepository.delete(post);
+        trendingService.remove(postId);
+        tagIndex.onPostDeleted(postId, tags);
+        postFeedCache.invalidate();
         
         log.info("Post deleted successfully: {} by user: {}", postId, userId);
     }
 
-    @Transactional
+    /**
+     * 좋아요 토글. 엔티티를 읽지 않고 INSERT IGNORE / DELETE 의 영향 행 수로 상태를 판단하고
+     * 좋아요 수는 UPDATE 증감으로 반영합니다. READ COMMITTED 로 갭 락을 피해 동시 토글 시 데드락을 줄입니다.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public boolean toggleLike(String userId, String postId) {
-        // 게시글 존재 확인
-        Post post = postRepository.findById(postId)
+        // 게시글 존재 확인 (알림에 필요한 작성자와 제목만 조회)
+        PostOwnerRow post = postRepository.findOwnerRowById(postId)
                 .orElseThrow(() -> {
                     log.warn("Post not found for like toggle: {}", postId);
                     return new BaseException(ErrorCode.POST_NOT_FOUND);
                 });
 
-        Optional<Like> existingLike = likeRepository.findByUserIdAndPostId(userId, postId);
-        
-        if (existingLike.isPresent()) {
-            // 좋아요 취소
-            likeRepository.delete(existingLike.get());
-            post.decrementLikeCount();
-            postRepository.save(post);
-            log.info("Like removed: postId={}, userId={}", postId, userId);
-            return false;
-        } else {
-            // 좋아요 추가
-            Like like = Like.create(userId, postId);
-            likeRepository.save(like);
-            post.incrementLikeCount();
-            postRepository.save(post);
+        // 좋아요 추가 (이미 좋아요한 경우 0 반환)
+        if (likeRepository.insertIgnore(new ULID().nextULID(), userId, postId) > 0) {
+            postRepository.addLikeCount(postId, 1);
+            trendingService.recordLike(postId);
+            notificationFanout.publish(NotificationEvent.likeOnPost(post.getUserId(), userId, postId, post.getTitle()));
             log.info("Like added: postId={}, userId={}", postId, userId);
             return true;
         }
-    }
 
-    @Transactional(readOnly = true)
-    public boolean hasNextPage(String currentUserId, String sortBy, String keyword, String afterCursor, int limit) {
-        List<Post> posts = getPostsForPagination(currentUserId, sortBy, keyword, afterCursor, limit + 1);
-        return posts.size() > limit;
+        // 좋아요 취소 (동시 요청이 먼저 취소한 경우 0 반환)
+        Optional<Instant> likedAt = likeRepository.findCreatedAtByUserIdAndPostId(userId, postId);
+        if (likedAt.isPresent() && likeRepository.deleteByUserIdAndPostId(userId, postId) > 0) {
+            postRepository.addLikeCount(postId, -1);
+            trendingService.cancelLike(postId, likedAt.get());
+        }
+        log.info("Like removed: postId={}, userId={}", postId, userId);
+        return false;
     }
 
     @Transactional(readOnly = true)
@@ -332,79 +469,55 @@ public class PostService {
         String nextCursor = hasNext && !posts.isEmpty() ? 
                            posts.get(posts.size() - 1).getId() : null;
 
-        // 사용자 정보와 좋아요 정보를 일괄 조회
-        List<String> userIds = posts.stream().map(Post::getUserId).distinct().collect(Collectors.toList());
-        List<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
-        List<String> fairytaleIds = posts.stream().map(Post::getFairytaleId).distinct().collect(Collectors.toList());
+        return new PostListResponse(toPostItems(posts, currentUserId), hasNext, nextCursor);
+    }
 
-        Map<String, User> userMap = userRepository.findAllById(userIds).stream()
-                .collect(Collectors.toMap(User::getId, user -> user));
+    private List<PostListResponse.PostItem> toPostItems(List<Post> posts, String currentUserId) {
+        return toPostItems(posts, currentUserId, Map.of());
+    }
 
-        Set<String> likedPostIds;
-        if (currentUserId != null) {
-            likedPostIds = new HashSet<>(likeRepository.findLikedPostIdsByUserIdAndPostIds(currentUserId, postIds));
-        } else {
-            likedPostIds = new HashSet<>();
+    private List<PostListResponse.PostItem> toPostItems(List<Post> posts, String currentUserId, Map<String, String> highlights) {
+        if (posts.isEmpty()) {
+            return new ArrayList<>();
         }
 
-        Map<String, Fairytale> fairytaleMap = fairytaleRepository.findAllById(fairytaleIds).stream()
-                .collect(Collectors.toMap(Fairytale::getId, fairytale -> fairytale));
+        // 작성자, 썸네일, 태그, 좋아요 여부를 한 번의 쿼리로 조회
+        List<String> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+        Map<String, PostListRow> rowMap = postRepository.findListRowsByIds(postIds, currentUserId).stream()
+                .collect(Collectors.toMap(PostListRow::getId, row -> row));
+
+        // 아직 DB 에 반영되지 않은 조회수 증가분
+        Map<String, Long> pendingViewCounts = counterBuffer.getPendingDeltas(CounterType.POST_VIEW, postIds);
 
         // PostItem 생성
-        List<PostListResponse.PostItem> postItems = posts.stream()
+        return posts.stream()
                 .map(post -> {
-                    User author = userMap.get(post.getUserId());
-                    Fairytale fairytale = fairytaleMap.get(post.getFairytaleId());
-                    String thumbnailUrl = fairytale != null && fairytale.getThumbnailPage() != null ? 
-                                         fairytale.getThumbnailPage().getImageUrl() : null;
-                    
+                    PostListRow row = rowMap.get(post.getId());
+
                     return new PostListResponse.PostItem(
                         post.getId(),
                         post.getTitle(),
                         post.getContentPreview(),
-                        post.getTags(),
-                        thumbnailUrl,
-                        post.getViewCount(),
+                        row != null && row.getTags() != null
+                            ? List.of(row.getTags().split(PostRepository.TAG_SEPARATOR))
+                            : new ArrayList<>(),
+                        row != null ? row.getThumbnailUrl() : null,
+                        post.getViewCount() + pendingViewCounts.getOrDefault(post.getId(), 0L),
                         post.getCommentCount(),
                         post.getLikeCount(),
-                        currentUserId != null && likedPostIds.contains(post.getId()),
+                        currentUserId != null && row != null && row.getLiked() != null && row.getLiked() == 1,
                         currentUserId != null && currentUserId.equals(post.getUserId()),
-                        author != null ? new PostListResponse.AuthorInfo(
-                            author.getId(),
-                            author.getEmail(),
-                            author.getNickname(),
-                            author.getProfileImageUrl()
+                        row != null && row.getAuthorId() != null ? new PostListResponse.AuthorInfo(
+                            row.getAuthorId(),
+                            row.getAuthorEmail(),
+                            row.getAuthorNickname(),
+                            row.getAuthorProfileImageUrl()
                         ) : null,
                         post.getCreatedAtByLocalDateTime(),
-                        post.getUpdatedAtByLocalDateTime()
+                        post.getUpdatedAtByLocalDateTime(),
+                        highlights.get(post.getId())
                     );
                 })
                 .collect(Collectors.toList());
-
-        return new PostListResponse(postItems, hasNext, nextCursor);
-    }
-
-    private List<Post> getPostsForPagination(String currentUserId, String sortBy, String keyword, String afterCursor, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        
-        if (keyword != null && !keyword.trim().isEmpty()) {
-            if (afterCursor == null || afterCursor.trim().isEmpty()) {
-                return postRepository.findByKeywordOrderByIdDesc(keyword.trim(), pageable);
-            } else {
-                return postRepository.findByKeywordAfterCursorOrderByIdDesc(keyword.trim(), afterCursor, pageable);
-            }
-        } else if ("popular".equals(sortBy)) {
-            if (afterCursor == null || afterCursor.trim().isEmpty()) {
-                return postRepository.findAllOrderByPopularityDesc(pageable);
-            } else {
-                return postRepository.findAllAfterCursorOrderByPopularityDesc(afterCursor, pageable);
-            }
-        } else {
-            if (afterCursor == null || afterCursor.trim().isEmpty()) {
-                return postRepository.findAllOrderByIdDesc(pageable);
-            } else {
-                return postRepository.findAllAfterCursorOrderByIdDesc(afterCursor, pageable);
-            }
-        }
     }
 }
\ No newline at end of file
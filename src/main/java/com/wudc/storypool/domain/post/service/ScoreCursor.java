@@ -0,0 +1,34 @@
+package com.wudc.storypool.domain.post.service;
+
+import com.wudc.storypool.common.exception.BaseException;
+import com.wudc.storypool.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 점수 정렬 목록의 (score, id) 키셋 커서. 클라이언트에는 "score:id" 를 Base64URL 로 인코딩해 전달합니다.
+ */
+public record ScoreCursor(double score, String id) {
+
+    private static final String DELIMITER = ":";
+
+    public String encode() {
+        // 정수 점수는 소수점 없이 표기
+        String raw = (score == Math.rint(score) ? String.valueOf((long) score) : String.valueOf(score)) + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ScoreCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.indexOf(DELIMITER);
+            if (index <= 0 || index == raw.length() - 1) {
+                throw new BaseException(ErrorCode.INVALID_CURSOR);
+            }
+            return new ScoreCursor(Double.parseDouble(raw.substring(0, index)), raw.substring(index + 1));
+        } catch (IllegalArgumentException e) {
+            throw new BaseException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
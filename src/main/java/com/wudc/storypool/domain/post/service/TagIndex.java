@@ -0,0 +1,343 @@
+package com.wudc.storypool.domain.post.service;
+
+import de.huxhorn.sulky.ulid.ULID;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 태그 → 게시글 역색인. 게시글 ID(ULID)를 정렬 순서대로 정수 번호로 바꿔 태그별 RoaringBitmap 에 보관하므로
+ * 번호 역순이 곧 최신순이고, 여러 태그 교집합도 비트맵 AND 로 바로 계산됩니다.
+ *
+ * 기동 시와 주기적으로 post_tags 에서 전체를 다시 만들고(다른 노드의 변경 반영), 그 사이에는 이 노드의
+ * 게시글 작성/수정/삭제를 커밋 직후 바로 반영합니다.
+ * 재구성은 post_tags 전체를 읽어 오래 걸릴 수 있으므로 공용 스케줄러 스레드 대신 전용 스레드에서 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagIndex {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tag-index-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${tagIndex.rebuildIntervalMs:600000}")
+    private long rebuildIntervalMs;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot = new Snapshot();
+    // 재구성 중 발생한 로컬 변경 (새 스냅샷에 다시 적용)
+    private List<Consumer<Snapshot>> journal;
+
+    public record TagCount(String tag, int postCount) {}
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+        scheduler.scheduleWithFixedDelay(() -> {
+            // 예외가 나가면 이후 실행이 취소되므로 여기서 막음
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Failed to rebuild tag index", e);
+            }
+        }, rebuildIntervalMs, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            journal = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            // post_id 오름차순 = 작성 순서이므로 대부분 배열 끝에 붙음
+            jdbcTemplate.query("SELECT post_id, tag FROM post_tags ORDER BY post_id", rs -> {
+                rebuilt.add(rs.getString(1), rs.getString(2));
+            });
+            rebuilt.optimize();
+        } catch (Exception e) {
+            log.error("Failed to rebuild tag index", e);
+            lock.writeLock().lock();
+            try {
+                journal = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            journal.forEach(change -> change.accept(rebuilt));
+            journal = null;
+            snapshot = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Tag index rebuilt: {} tag(s), {} post(s)", rebuilt.postings.size(), rebuilt.size);
+    }
+
+    /**
+     * 모든 태그를 가진 게시글 ID 를 최신순으로 반환합니다. afterId 가 있으면 그보다 오래된 게시글부터 조회합니다.
+     */
+    public List<String> findPostIds(Collection<String> tags, String afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matched = null;
+            for (String tag : tags) {
+                RoaringBitmap posting = snapshot.postings.get(normalize(tag));
+                if (posting == null) {
+                    return List.of();
+                }
+                matched = matched == null ? posting : RoaringBitmap.and(matched, posting);
+            }
+            if (matched == null || matched.isEmpty()) {
+                return List.of();
+            }
+
+            // 커서 ID 가 색인에 없어도(삭제/다른 노드 작성) ULID 순서상 그보다 오래된 게시글부터 이어서 조회
+            int end = snapshot.size;
+            if (afterId != null) {
+                ULID.Value after = parse(afterId);
+                if (after == null) {
+                    return List.of();
+                }
+                end = snapshot.ordinalsBefore(after);
+            }
+
+            List<String> postIds = new ArrayList<>(limit);
+            long ordinal = end > 0 ? matched.previousValue(end - 1) : -1;
+            while (ordinal >= 0 && postIds.size() < limit) {
+                postIds.add(snapshot.idAt((int) ordinal));
+                ordinal = ordinal > 0 ? matched.previousValue((int) ordinal - 1) : -1;
+            }
+            return postIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 접두어로 시작하는 태그를 게시글 수가 많은 순으로 반환합니다.
+     */
+    public List<TagCount> autocomplete(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            NavigableMap<String, RoaringBitmap> matched =
+                snapshot.postings.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+
+            return matched.entrySet().stream()
+                .filter(entry -> !entry.getValue().isEmpty())
+                .map(entry -> new TagCount(snapshot.displayTags.get(entry.getKey()), entry.getValue().getCardinality()))
+                .sorted(Comparator.comparingInt(TagCount::postCount).reversed().thenComparing(TagCount::tag))
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void onPostSaved(String postId, Collection<String> oldTags, Collection<String> newTags) {
+        afterCommit(current -> {
+            current.remove(postId, oldTags);
+            newTags.forEach(tag -> current.add(postId, tag));
+        });
+    }
+
+    public void onPostDeleted(String postId, Collection<String> tags) {
+        afterCommit(current -> current.remove(postId, tags));
+    }
+
+    private void afterCommit(Consumer<Snapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(snapshot);
+            if (journal != null) {
+                journal.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 게시글 ID 는 ULID 128비트를 상위/하위 long 두 배열에 오름차순으로 보관하고, 배열 위치를 번호로 씁니다.
+     * 게시글당 16바이트라 문자열 맵보다 훨씬 작고, 정렬되어 있어 ID → 번호는 이진 탐색으로 찾습니다.
+     */
+    private static class Snapshot {
+        private static final int INITIAL_CAPACITY = 1024;
+
+        private long[] highs = new long[INITIAL_CAPACITY];
+        private long[] lows = new long[INITIAL_CAPACITY];
+        private int size;
+        private final TreeMap<String, RoaringBitmap> postings = new TreeMap<>();
+        private final Map<String, String> displayTags = new HashMap<>();
+
+        private void add(String postId, String tag) {
+            String key = normalize(tag);
+            ULID.Value id = parse(postId);
+            if (key.isEmpty() || id == null) {
+                return;
+            }
+            int position = search(id);
+            int ordinal = position >= 0 ? position : insert(-position - 1, id);
+            postings.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+            displayTags.putIfAbsent(key, tag.trim());
+        }
+
+        private void remove(String postId, Collection<String> tags) {
+            ULID.Value id = parse(postId);
+            int ordinal = id != null ? search(id) : -1;
+            if (ordinal < 0 || tags == null) {
+                return;
+            }
+            Set<String> keys = new LinkedHashSet<>();
+            tags.forEach(tag -> keys.add(normalize(tag)));
+            for (String key : keys) {
+                RoaringBitmap posting = postings.get(key);
+                if (posting != null) {
+                    posting.remove(ordinal);
+                }
+            }
+        }
+
+        /**
+         * ID 보다 작은(오래된) 게시글 번호의 상한. 색인에 없는 ID 여도 정렬 위치로 계산됩니다.
+         */
+        private int ordinalsBefore(ULID.Value id) {
+            int position = search(id);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        private String idAt(int ordinal) {
+            return new ULID.Value(highs[ordinal], lows[ordinal]).toString();
+        }
+
+        /**
+         * 찾으면 위치, 없으면 -(삽입 위치) - 1 (Arrays.binarySearch 와 같은 규칙)
+         */
+        private int search(ULID.Value id) {
+            // 재구성 중에는 ID 가 오름차순으로 들어오므로 마지막 위치를 먼저 확인
+            if (size == 0 || compare(highs[size - 1], lows[size - 1], id) < 0) {
+                return -size - 1;
+            }
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int compared = compare(highs[mid], lows[mid], id);
+                if (compared < 0) {
+                    low = mid + 1;
+                } else if (compared > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+
+        private int insert(int position, ULID.Value id) {
+            if (size == highs.length) {
+                highs = Arrays.copyOf(highs, size * 2);
+                lows = Arrays.copyOf(lows, size * 2);
+            }
+            if (position < size) {
+                // 중간 삽입(기존 게시글에 처음 태그가 붙은 경우 등)은 드물어서 뒤쪽 번호를 한 칸씩 밀어 순서를 유지
+                System.arraycopy(highs, position, highs, position + 1, size - position);
+                System.arraycopy(lows, position, lows, position + 1, size - position);
+                RoaringBitmap tailRange = RoaringBitmap.bitmapOfRange(position, size);
+                for (RoaringBitmap posting : postings.values()) {
+                    if (!posting.isEmpty() && posting.last() >= position) {
+                        RoaringBitmap shifted = RoaringBitmap.addOffset(RoaringBitmap.and(posting, tailRange), 1);
+                        posting.remove((long) position, size);
+                        posting.or(shifted);
+                    }
+                }
+            }
+            highs[position] = id.getMostSignificantBits();
+            lows[position] = id.getLeastSignificantBits();
+            size++;
+            return position;
+        }
+
+        private void optimize() {
+            postings.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        private static int compare(long high, long low, ULID.Value id) {
+            int compared = Long.compareUnsigned(high, id.getMostSignificantBits());
+            return compared != 0 ? compared : Long.compareUnsigned(low, id.getLeastSignificantBits());
+        }
+    }
+
+    private static ULID.Value parse(String postId) {
+        try {
+            return ULID.parseULID(postId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return null;
+        }
+    }
+}
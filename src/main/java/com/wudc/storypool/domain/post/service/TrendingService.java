@@ -0,0 +1,236 @@
+package com.wudc.storypool.domain.post.service;
+
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 시간 감쇠 인기(트렌딩) 점수를 Redis ZSET 으로 관리합니다.
+ *
+ * 점수를 매번 깎는 대신 이벤트 가중치에 2^(경과시간/반감기)를 곱해 더하는 방식이라 ZINCRBY 한 번으로 갱신됩니다.
+ * 값이 계속 커지지 않도록 한 시간 단위 버킷마다 키를 새로 만들고, 이전 키를 감쇠 비율로 곱해 합치는(ZUNIONSTORE WEIGHTS)
+ * 방식으로 기준 시점을 옮깁니다. 모든 노드가 같은 버킷 번호를 계산하므로 별도의 기준 시점 조회가 필요 없습니다.
+ * 취소 이벤트는 원래 이벤트 시각의 배율로 빼므로, 감쇠가 적용된 원래 점수만큼 정확히 상쇄됩니다.
+ */
+@Service
+@Slf4j
+public class TrendingService {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double LIKE_WEIGHT = 10.0;
+    public static final double COMMENT_WEIGHT = 10.0;
+    public static final double CREATE_WEIGHT = 1.0;
+
+    // 버킷 키를 ZUNIONSTORE 로 합치므로 클러스터에서도 같은 슬롯에 두도록 해시 태그 사용
+    private static final String KEY_PREFIX = "trending:{posts}:";
+    private static final String LATEST_BUCKET_KEY = KEY_PREFIX + "latest";
+    private static final Duration BUCKET_INTERVAL = Duration.ofHours(1);
+
+    // 취소가 더한 것보다 많이 빼는 경우(시드 값, maintain 으로 잘린 뒤의 취소 등) 음수 점수가 남지 않도록 0 이하면 제거
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[1], ARGV[2])) " +
+        "if score <= 0 then redis.call('ZREM', KEYS[1], ARGV[2]) end " +
+        "return 0",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final PostRepository postRepository;
+    private final double halfLifeMillis;
+    private final long maxSize;
+
+    private volatile long rebasedBucket = -1;
+
+    public TrendingService(
+        StringRedisTemplate stringRedisTemplate,
+        PostRepository postRepository,
+        @Value("${trending.halfLifeHours:12}") double halfLifeHours,
+        @Value("${trending.maxSize:10000}") long maxSize
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.postRepository = postRepository;
+        this.halfLifeMillis = halfLifeHours * 60 * 60 * 1000;
+        this.maxSize = maxSize;
+    }
+
+    public void recordView(String postId) {
+        record(postId, VIEW_WEIGHT, Instant.now());
+    }
+
+    public void recordLike(String postId) {
+        record(postId, LIKE_WEIGHT, Instant.now());
+    }
+
+    /**
+     * 좋아요 취소. 좋아요를 누른 시각 기준으로 빼야 그때 더한 만큼(이후 감쇠 포함)만 정확히 되돌립니다.
+     */
+    public void cancelLike(String postId, Instant likedAt) {
+        record(postId, -LIKE_WEIGHT, likedAt);
+    }
+
+    public void recordComment(String postId) {
+        record(postId, COMMENT_WEIGHT, Instant.now());
+    }
+
+    /**
+     * 댓글 삭제. 댓글 작성 시각 기준으로 뺍니다.
+     */
+    public void cancelComment(String postId, Instant commentedAt) {
+        record(postId, -COMMENT_WEIGHT, commentedAt);
+    }
+
+    public void recordCreated(String postId) {
+        record(postId, CREATE_WEIGHT, Instant.now());
+    }
+
+    public void remove(String postId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.opsForZSet().remove(key(ensureRebased()), postId);
+            } catch (Exception e) {
+                log.warn("Failed to remove post from trending: {}", postId, e);
+            }
+        });
+    }
+
+    /**
+     * 트렌딩 순위의 postId 목록 (offset 부터 count 개)
+     */
+    public List<String> getRankedPostIds(long offset, int count) {
+        Set<String> ids = stringRedisTemplate.opsForZSet()
+            .reverseRange(key(ensureRebased()), offset, offset + count - 1);
+        return ids != null ? new ArrayList<>(ids) : List.of();
+    }
+
+    /**
+     * ZSET 에 남아 있지만 DB 에서 삭제된 게시글 정리
+     */
+    public void removeAll(Collection<String> postIds) {
+        if (!postIds.isEmpty()) {
+            stringRedisTemplate.opsForZSet().remove(key(ensureRebased()), postIds.toArray());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.maintenanceIntervalMs:300000}")
+    public void maintain() {
+        try {
+            long bucket = ensureRebased();
+            // 상위 maxSize 개만 유지
+            stringRedisTemplate.opsForZSet().removeRange(key(bucket), 0, -maxSize - 1);
+        } catch (Exception e) {
+            log.error("Failed to maintain trending set", e);
+        }
+    }
+
+    /**
+     * 트랜잭션 안이라면 커밋된 뒤에 반영해, 롤백된 좋아요/댓글의 점수가 남지 않게 합니다.
+     */
+    private void record(String postId, double weight, Instant occurredAt) {
+        afterCommit(() -> {
+            try {
+                long bucket = ensureRebased();
+                stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key(bucket)),
+                    String.valueOf(weight * growth(bucket, occurredAt)), postId);
+            } catch (Exception e) {
+                // 트렌딩 점수는 부가 기능이므로 실패해도 요청은 계속 진행
+                log.warn("Failed to record trending event for post: {}", postId, e);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 현재 버킷 키가 이전 버킷 점수를 감쇠해 이어받았는지 확인하고, 아니라면 한 노드만 합치기를 수행합니다.
+     */
+    private long ensureRebased() {
+        long bucket = currentBucket();
+        if (rebasedBucket == bucket) {
+            return bucket;
+        }
+
+        String guardKey = key(bucket) + ":rebased";
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(guardKey, "1", BUCKET_INTERVAL.multipliedBy(2)))) {
+            String latest = stringRedisTemplate.opsForValue().get(LATEST_BUCKET_KEY);
+
+            if (latest == null) {
+                seedFromDatabase(bucket);
+            } else if (Long.parseLong(latest) < bucket) {
+                long previousBucket = Long.parseLong(latest);
+                double decay = Math.pow(2, -(double) (bucket - previousBucket) * BUCKET_INTERVAL.toMillis() / halfLifeMillis);
+
+                // 이전 버킷 점수를 감쇠해 합치되, 이미 현재 버킷에 쌓인 점수는 그대로 유지
+                stringRedisTemplate.opsForZSet().unionAndStore(
+                    key(previousBucket), List.of(key(bucket)), key(bucket),
+                    Aggregate.SUM, Weights.of(decay, 1));
+                stringRedisTemplate.expire(key(previousBucket), BUCKET_INTERVAL);
+                log.info("Trending set rebased from bucket {} to {} with decay {}", previousBucket, bucket, decay);
+            }
+            stringRedisTemplate.opsForValue().set(LATEST_BUCKET_KEY, String.valueOf(bucket));
+        }
+
+        rebasedBucket = bucket;
+        return bucket;
+    }
+
+    /**
+     * 트렌딩 데이터가 없을 때 DB 인기 점수를 작성 시점 기준으로 감쇠해 초기값으로 사용
+     */
+    private void seedFromDatabase(long bucket) {
+        List<Post> posts = postRepository.findAllOrderByPopularityDesc(PageRequest.of(0, (int) Math.min(maxSize, Integer.MAX_VALUE)));
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        for (Post post : posts) {
+            Instant createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : Instant.now();
+            double score = (post.getPopularityScore() / 10.0 + CREATE_WEIGHT) * growth(bucket, createdAt);
+            tuples.add(ZSetOperations.TypedTuple.of(post.getId(), score));
+        }
+        if (!tuples.isEmpty()) {
+            stringRedisTemplate.opsForZSet().add(key(bucket), tuples);
+        }
+        log.info("Trending set seeded with {} post(s)", tuples.size());
+    }
+
+    private double growth(long bucket, Instant at) {
+        long bucketStart = bucket * BUCKET_INTERVAL.toMillis();
+        return Math.pow(2, (at.toEpochMilli() - bucketStart) / halfLifeMillis);
+    }
+
+    private long currentBucket() {
+        return System.currentTimeMillis() / BUCKET_INTERVAL.toMillis();
+    }
+
+    private String key(long bucket) {
+        return KEY_PREFIX + bucket;
+    }
+}
@@ -6,11 +6,14 @@ import jakarta.persistence.*;
 import jakarta.persistence.CascadeType;
 import lombok.*;
 import org.hibernate.annotations.*;
+import org.hibernate.annotations.Cache;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 @Getter @Setter
 @AllArgsConstructor
 @SQLDelete(sql = "UPDATE user SET deleted = true WHERE id = ?")
@@ -4,8 +4,12 @@ import com.wudc.storypool.domain.user.entity.Device;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.entity.constant.Platform;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +27,11 @@ public interface DeviceRepository extends JpaRepository<Device, String> {
     boolean existsByUserAndDeviceIdAndPlatform(User user, String deviceId, Platform platform);
     
     List<Device> findAllByUserAndPlatform(User user, Platform platform);
+
+    @Query("SELECT d.fcmToken FROM Device d WHERE d.user.id IN :userIds")
+    List<String> findFcmTokensByUserIdIn(@Param("userIds") Collection<String> userIds);
+
+    @Modifying
+    @Query("DELETE FROM Device d WHERE d.fcmToken IN :fcmTokens")
+    int deleteAllByFcmTokenIn(@Param("fcmTokens") Collection<String> fcmTokens);
 }
\ No newline at end of file
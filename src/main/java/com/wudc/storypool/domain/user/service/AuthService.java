@@ -2,21 +2,18 @@ package com.wudc.storypool.domain.user.service;
 
 import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
+import com.wudc.storypool.domain.notification.service.NotificationRetentionService;
 import com.wudc.storypool.domain.notification.service.NotificationSettingsService;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
+import com.wudc.storypool.global.cache.EntityCacheInvalidator;
 import com.wudc.storypool.global.security.jwt.JwtGenerator;
 import com.wudc.storypool.global.security.jwt.JwtParser;
-import com.wudc.storypool.global.security.jwt.JwtProperties;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -29,10 +26,11 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtGenerator jwtGenerator;
     private final JwtParser jwtParser;
-    private final JwtProperties jwtProperties;
     private final TokenStorageService tokenStorageService;
     private final LoginAttemptService loginAttemptService;
     private final NotificationSettingsService notificationSettingsService;
+    private final NotificationRetentionService notificationRetentionService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     public int sendCodeByEmail(String email) {
         return emailService.sendAuthCode(email);
@@ -94,8 +92,7 @@ public class AuthService {
     public LoginTokens refreshTokens(String accessToken, String refreshToken) {
         // 1. 리프레시 토큰에서 이메일 정보 추출 및 검증
         String cleanRefreshToken = refreshToken.replace("Bearer ", "");
-        SecretKey refreshKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getRefreshSecret()));
-        String userIdFromRefresh = jwtParser.getUserIdByToken(cleanRefreshToken, refreshKey);
+        String userIdFromRefresh = jwtParser.getUserIdByRefreshToken(cleanRefreshToken);
         
         if (userIdFromRefresh == null) {
             log.warn("Invalid refresh token provided");
@@ -104,8 +101,7 @@ public class AuthService {
 
         // 2. 액세스 토큰에서 사용자 ID 추출 (만료 여부 무관)
         String cleanAccessToken = accessToken.replace("Bearer ", "");
-        SecretKey accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()));
-        String userIdFromAccess = jwtParser.getUserIdByToken(cleanAccessToken, accessKey);
+        String userIdFromAccess = jwtParser.getUserIdByAccessToken(cleanAccessToken);
         
         // 3. 토큰 간 사용자 ID 일치 확인
         if (!userIdFromRefresh.equals(userIdFromAccess)) {
@@ -131,8 +127,8 @@ public class AuthService {
         String newRefreshToken = jwtGenerator.generateRefreshToken(user.getId());
 
         // 7. Redis에서 기존 토큰 삭제 및 새 토큰 저장
-        tokenStorageService.removeAccessToken(accessToken);
-        tokenStorageService.removeRefreshToken(refreshToken);
+        tokenStorageService.removeAccessToken(accessToken, user.getEmail());
+        tokenStorageService.removeRefreshToken(refreshToken, user.getEmail());
         tokenStorageService.storeAccessToken(newAccessToken, user.getEmail());
         tokenStorageService.storeRefreshToken(newRefreshToken, user.getEmail());
 
@@ -145,8 +141,7 @@ public class AuthService {
         String cleanRefreshToken = refreshToken.replace("Bearer ", "");
 
         // 1. 액세스 토큰에서 사용자 정보 추출
-        SecretKey accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()));
-        String userId = jwtParser.getUserIdByToken(cleanAccessToken, accessKey);
+        String userId = jwtParser.getUserIdByAccessToken(cleanAccessToken);
         
         if (userId == null) {
             log.warn("Invalid access token provided for logout");
@@ -166,9 +161,9 @@ public class AuthService {
             throw new BaseException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
         }
 
-        // 4. Redis에서 모든 토큰 삭제
-        tokenStorageService.removeAccessToken(accessToken);
-        tokenStorageService.removeRefreshToken(refreshToken);
+        // 4. Redis에서 모든 토큰 삭제 (복제본 반영까지 대기)
+        tokenStorageService.revokeAccessToken(accessToken, user.getEmail());
+        tokenStorageService.removeRefreshToken(refreshToken, user.getEmail());
 
         log.info("User logged out successfully: {} with userId: {}", user.getEmail(), user.getId());
     }
@@ -189,10 +184,12 @@ public class AuthService {
 
         // 3. 소프트 삭제 처리
         userRepository.delete(user);
+        entityCacheInvalidator.evict(User.class, userId);
+        notificationRetentionService.deleteAllForUser(userId);
 
         // 4. 모든 토큰 삭제
-        tokenStorageService.removeAccessToken(accessToken);
-        tokenStorageService.removeRefreshToken(refreshToken);
+        tokenStorageService.removeAccessToken(accessToken, user.getEmail());
+        tokenStorageService.removeRefreshToken(refreshToken, user.getEmail());
 
         // 5. 해당 이메일의 모든 토큰 삭제 (다중 디바이스 대응)
         tokenStorageService.removeAllTokensForEmail(user.getEmail());
@@ -219,6 +216,7 @@ public class AuthService {
         String encodedPassword = passwordEncoder.encode(newPassword);
         user.setPassword(encodedPassword);
         userRepository.save(user);
+        entityCacheInvalidator.evict(User.class, user.getId());
 
         // 4. 모든 기존 토큰 무효화 (보안상 중요)
         tokenStorageService.removeAllTokensForEmail(email);
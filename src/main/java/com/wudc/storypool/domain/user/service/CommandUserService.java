@@ -7,6 +7,7 @@ import com.wudc.storypool.domain.upload.service.S3UploadService;
 import com.wudc.storypool.domain.user.controller.request.UpdateUserProfileRequest;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
+import com.wudc.storypool.global.cache.EntityCacheInvalidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +28,7 @@ public class CommandUserService {
     private final NicknameService nicknameService;
     private final NotificationSettingsService notificationSettingsService;
     private final S3UploadService s3UploadService;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     @Value("${default.image.url}")
     private String defaultProfileImageUrl;
@@ -54,6 +56,7 @@ public class CommandUserService {
         user.setNickname(request.nickname());
         user.setDescription(request.description());
         user.setProfileImageUrl(newProfileImageUrl);
+        entityCacheInvalidator.evict(User.class, userId);
     }
 
     private boolean shouldDeleteOldProfileImage(String currentUrl, String newUrl) {
@@ -81,6 +84,7 @@ public class CommandUserService {
 
         String encodedPassword = passwordEncoder.encode(newPassword);
         user.setPassword(encodedPassword);
+        entityCacheInvalidator.evict(User.class, userId);
     }
 
     public String createUser(String email, String password) {
@@ -90,6 +94,7 @@ public class CommandUserService {
         if (user.isPresent()) {
             user.get().setDeleted(false);
             user.get().setPassword(encodedPassword);
+            entityCacheInvalidator.evict(User.class, user.get().getId());
             
             notificationSettingsService.createDefaultSettings(user.get().getId());
             
@@ -129,6 +134,7 @@ public class CommandUserService {
         // 사용자 엔티티의 프로필 이미지 URL을 null로 설정
         user.setProfileImageUrl(null);
         userRepository.save(user);
+        entityCacheInvalidator.evict(User.class, userId);
 
         log.info("Profile image deleted successfully for user: {}", userId);
     }
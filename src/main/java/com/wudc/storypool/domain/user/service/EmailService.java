@@ -2,16 +2,21 @@ package com.wudc.storypool.domain.user.service;
 
 import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
+import com.wudc.storypool.global.ratelimit.RedisRateLimiter;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.security.SecureRandom;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +24,8 @@ import java.time.Duration;
 public class EmailService {
 
     private final JavaMailSender mailSender;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisRateLimiter redisRateLimiter;
 
     @Value("${spring.mail.username}")
     private String senderEmail;
@@ -32,41 +38,49 @@ public class EmailService {
     private static final int RATE_LIMIT_MINUTES = 1;
     private static final int VERIFY_RATE_LIMIT_MINUTES = 1;
     private static final int MAX_VERIFY_ATTEMPTS = 3;
+    private static final int MAIL_SENDER_THREADS = 4;
+
+    // Jakarta Mail 의 SMTP 전송은 synchronized 메서드 안에서 소켓 I/O 를 하므로 가상 스레드에서 직접 호출하면
+    // 캐리어 스레드가 고정(pinning)됨. 전송은 플랫폼 스레드에서 하고 요청 스레드는 결과만 기다림
+    private final AtomicInteger mailThreadNumber = new AtomicInteger();
+    private final ExecutorService mailExecutor = Executors.newFixedThreadPool(MAIL_SENDER_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "mail-sender-" + mailThreadNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
 
     public int sendAuthCode(String email) {
-        checkRateLimit(email);
+        acquireRateLimit(email);
         
         String authCode = generateAuthCode();
         
         try {
             sendEmail(email, authCode);
             saveAuthCode(email, authCode);
-            saveRateLimit(email);
             
             log.info("Authentication code sent successfully to email: {}", email);
             return CODE_EXPIRY_MINUTES * 60;
         } catch (Exception e) {
+            // 발송에 실패하면 바로 다시 요청할 수 있도록 기록을 되돌림
+            redisRateLimiter.reset(RATE_LIMIT_PREFIX + email);
             log.error("Failed to send authentication code to email: {}", email, e);
             throw new BaseException(ErrorCode.CANT_SEND_EMAIL);
         }
     }
 
-    private void checkRateLimit(String email) {
-        String rateLimitKey = RATE_LIMIT_PREFIX + email;
-        String rateLimitValue = redisTemplate.opsForValue().get(rateLimitKey);
-        
-        if (rateLimitValue != null) {
+    private void acquireRateLimit(String email) {
+        if (!redisRateLimiter.tryAcquire(RATE_LIMIT_PREFIX + email, 1, Duration.ofMinutes(RATE_LIMIT_MINUTES))) {
             log.warn("Rate limit exceeded for email: {}", email);
             throw new BaseException(ErrorCode.TOO_MANY_REQUESTS);
         }
     }
 
-    private void saveRateLimit(String email) {
-        String rateLimitKey = RATE_LIMIT_PREFIX + email;
-        redisTemplate.opsForValue().set(rateLimitKey, "1", Duration.ofMinutes(RATE_LIMIT_MINUTES));
+    @PreDestroy
+    public void shutdown() {
+        mailExecutor.shutdown();
     }
 
-    private void sendEmail(String email, String authCode) {
+    private void sendEmail(String email, String authCode) throws Exception {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(email);
         message.setFrom(senderEmail);
@@ -74,7 +88,7 @@ public class EmailService {
         message.setText("인증 코드: " + authCode + "\n\n" +
                        "이 코드는 " + CODE_EXPIRY_MINUTES + "분 후 만료됩니다.");
         
-        mailSender.send(message);
+        mailExecutor.submit(() -> mailSender.send(message)).get();
     }
 
     private String generateAuthCode() {
@@ -90,51 +104,32 @@ public class EmailService {
 
     private void saveAuthCode(String email, String authCode) {
         String key = AUTH_CODE_PREFIX + email;
-        redisTemplate.opsForValue().set(key, authCode, Duration.ofMinutes(CODE_EXPIRY_MINUTES));
+        stringRedisTemplate.opsForValue().set(key, authCode, Duration.ofMinutes(CODE_EXPIRY_MINUTES));
     }
 
     public boolean verifyAuthCode(String email, String inputCode) {
-        checkVerifyRateLimit(email);
+        acquireVerifyRateLimit(email);
         
         String key = AUTH_CODE_PREFIX + email;
-        String storedCode = redisTemplate.opsForValue().get(key);
+        String storedCode = stringRedisTemplate.opsForValue().get(key);
         
         if (storedCode != null && storedCode.equals(inputCode)) {
-            redisTemplate.delete(key);
-            clearVerifyRateLimit(email); // 성공 시 rate limit 초기화
+            stringRedisTemplate.delete(key);
+            redisRateLimiter.reset(VERIFY_RATE_LIMIT_PREFIX + email); // 성공 시 rate limit 초기화
             log.info("Authentication code verified successfully for email: {}", email);
             return true;
         }
         
-        incrementVerifyAttempts(email);
         log.warn("Authentication code verification failed for email: {} - code mismatch or expired", email);
         return false;
     }
 
-    private void checkVerifyRateLimit(String email) {
+    // 확인과 시도 기록을 한 번에 처리하므로 동시에 여러 번 시도해도 MAX_VERIFY_ATTEMPTS 를 넘지 않음
+    private void acquireVerifyRateLimit(String email) {
         String rateLimitKey = VERIFY_RATE_LIMIT_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(rateLimitKey);
-        
-        if (attempts != null && Integer.parseInt(attempts) >= MAX_VERIFY_ATTEMPTS) {
+        if (!redisRateLimiter.tryAcquire(rateLimitKey, MAX_VERIFY_ATTEMPTS, Duration.ofMinutes(VERIFY_RATE_LIMIT_MINUTES))) {
             log.warn("Verification rate limit exceeded for email: {}", email);
             throw new BaseException(ErrorCode.TOO_MANY_REQUESTS);
         }
     }
-
-    private void incrementVerifyAttempts(String email) {
-        String rateLimitKey = VERIFY_RATE_LIMIT_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(rateLimitKey);
-        
-        if (attempts == null) {
-            redisTemplate.opsForValue().set(rateLimitKey, "1", Duration.ofMinutes(VERIFY_RATE_LIMIT_MINUTES));
-        } else {
-            int currentAttempts = Integer.parseInt(attempts) + 1;
-            redisTemplate.opsForValue().set(rateLimitKey, String.valueOf(currentAttempts), Duration.ofMinutes(VERIFY_RATE_LIMIT_MINUTES));
-        }
-    }
-
-    private void clearVerifyRateLimit(String email) {
-        String rateLimitKey = VERIFY_RATE_LIMIT_PREFIX + email;
-        redisTemplate.delete(rateLimitKey);
-    }
 }
\ No newline at end of file
@@ -1,16 +1,14 @@
 package com.wudc.storypool.domain.user.service;
 
+import com.wudc.storypool.global.security.jwt.JwtKeyManager;
+import com.wudc.storypool.global.security.jwt.JwtKeyType;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
 import de.huxhorn.sulky.ulid.ULID;
 import java.time.Duration;
 import java.time.Instant;
@@ -21,10 +19,8 @@ import java.util.Date;
 @Slf4j
 public class EmailTokenService {
 
-    private final RedisTemplate<String, String> redisTemplate;
-    
-    @Value("${jwt.accessSecret}")
-    private String jwtSecret;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JwtKeyManager jwtKeyManager;
     
     @Value("${jwt.issuer}")
     private String issuer;
@@ -35,20 +31,17 @@ public class EmailTokenService {
     public String generateEmailToken(String email) {
         ULID ulid = new ULID();
         String tokenId = ulid.nextULID();
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
-        
-        String token = Jwts.builder()
+
+        String token = jwtKeyManager.sign(JwtKeyType.EMAIL, Jwts.builder()
                 .setSubject(email)
                 .setId(tokenId)
                 .setIssuer(issuer)
                 .setIssuedAt(new Date())
-                .setExpiration(Date.from(Instant.now().plusSeconds(EMAIL_TOKEN_EXPIRY_MINUTES * 60)))
-                .signWith(key, SignatureAlgorithm.HS256)
-                .compact();
+                .setExpiration(Date.from(Instant.now().plusSeconds(EMAIL_TOKEN_EXPIRY_MINUTES * 60))));
 
         // Redis에 email을 key로, token을 value로 저장 (덮어쓰기)
         String redisKey = EMAIL_TOKEN_PREFIX + email;
-        redisTemplate.opsForValue().set(redisKey, token, Duration.ofMinutes(EMAIL_TOKEN_EXPIRY_MINUTES));
+        stringRedisTemplate.opsForValue().set(redisKey, token, Duration.ofMinutes(EMAIL_TOKEN_EXPIRY_MINUTES));
         
         log.info("Email token generated for email: {}", email);
         return token;
@@ -56,11 +49,11 @@ public class EmailTokenService {
 
     public boolean validateEmailToken(String email, String token) {
         String redisKey = EMAIL_TOKEN_PREFIX + email;
-        String storedToken = redisTemplate.opsForValue().get(redisKey);
+        String storedToken = stringRedisTemplate.opsForValue().get(redisKey);
         
         if (storedToken != null && storedToken.equals(token)) {
             // 토큰 사용 후 즉시 삭제
-            redisTemplate.delete(redisKey);
+            stringRedisTemplate.delete(redisKey);
             log.info("Email token validated and removed for email: {}", email);
             return true;
         }
@@ -2,9 +2,10 @@ package com.wudc.storypool.domain.user.service;
 
 import com.wudc.storypool.common.exception.BaseException;
 import com.wudc.storypool.common.exception.ErrorCode;
+import com.wudc.storypool.global.ratelimit.RedisRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -14,7 +15,8 @@ import java.time.Duration;
 @Slf4j
 public class LoginAttemptService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisRateLimiter redisRateLimiter;
 
     private static final String LOGIN_ATTEMPT_PREFIX = "login_attempt:";
     private static final int MAX_ATTEMPTS = 5;
@@ -22,7 +24,7 @@ public class LoginAttemptService {
 
     public void validateLoginAttempt(String email) {
         String key = LOGIN_ATTEMPT_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(key);
+        String attempts = stringRedisTemplate.opsForValue().get(key);
 
         if (attempts != null && Integer.parseInt(attempts) >= MAX_ATTEMPTS) {
             log.warn("Account locked due to too many failed login attempts: {}", email);
@@ -32,16 +34,14 @@ public class LoginAttemptService {
 
     public void recordFailedAttempt(String email) {
         String key = LOGIN_ATTEMPT_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(key);
+        // 동시에 실패해도 누락 없이 세도록 증가와 만료 설정을 한 번에 처리
+        long currentAttempts = redisRateLimiter.increment(key, Duration.ofMinutes(LOCKOUT_DURATION_MINUTES));
 
-        if (attempts == null) {
-            redisTemplate.opsForValue().set(key, "1", Duration.ofMinutes(LOCKOUT_DURATION_MINUTES));
+        if (currentAttempts == 1) {
             log.debug("First failed login attempt recorded for email: {}", email);
         } else {
-            int currentAttempts = Integer.parseInt(attempts) + 1;
-            redisTemplate.opsForValue().set(key, String.valueOf(currentAttempts), Duration.ofMinutes(LOCKOUT_DURATION_MINUTES));
             log.warn("Failed login attempt {} recorded for email: {}", currentAttempts, email);
-            
+
             if (currentAttempts >= MAX_ATTEMPTS) {
                 log.warn("Account locked after {} failed attempts: {}", MAX_ATTEMPTS, email);
             }
@@ -50,13 +50,13 @@ public class LoginAttemptService {
 
     public void resetFailedAttempts(String email) {
         String key = LOGIN_ATTEMPT_PREFIX + email;
-        redisTemplate.delete(key);
+        stringRedisTemplate.delete(key);
         log.debug("Failed login attempts reset for email: {}", email);
     }
 
     public int getFailedAttempts(String email) {
         String key = LOGIN_ATTEMPT_PREFIX + email;
-        String attempts = redisTemplate.opsForValue().get(key);
+        String attempts = stringRedisTemplate.opsForValue().get(key);
         return attempts != null ? Integer.parseInt(attempts) : 0;
     }
 }
\ No newline at end of file
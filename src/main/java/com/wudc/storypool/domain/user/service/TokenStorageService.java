@@ -1,19 +1,46 @@
 package com.wudc.storypool.domain.user.service;
 
+import com.wudc.storypool.common.util.TokenHashUtil;
+import com.wudc.storypool.global.redis.JdkSerializedString;
+import com.wudc.storypool.global.redis.RedisReadReplica;
+import com.wudc.storypool.global.security.jwt.AuthenticationCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Set;
 
+/**
+ * 발급한 토큰을 Redis 에 저장해 로그아웃/탈퇴 시 폐기할 수 있게 합니다.
+ *
+ * 키에는 원본 JWT 대신 SHA-256 해시를 쓰고, 이메일별 ZSET 색인에 토큰 키를 만료 시각 점수로 함께 기록합니다.
+ * 전체 폐기는 KEYS 로 모든 토큰을 훑지 않고 해당 사용자의 색인만 읽어 UNLINK 하므로 비용이 그 사용자의 세션 수에 비례합니다.
+ * 한 사용자의 토큰 키와 색인은 해시 태그({email})로 같은 슬롯에 두어 클러스터에서도 한 번에 다룰 수 있습니다.
+ *
+ * 매 요청의 액세스 토큰 확인은 복제본에서 읽고, 없거나 복제본 오류일 때만 기본 노드에서 다시 확인합니다.
+ * 로그아웃/전체 폐기(revoke) 후에는 폐기한 토큰이 복제본에 남아 인정되지 않도록 복제본이 삭제를 받을 때까지 기다린 뒤
+ * 로컬 인증 캐시를 비웁니다. 시간 안에 받지 못하면(redis.replicationWaitMs) 경고와 지표만 남기므로, 그 복제본이 따라잡을
+ * 때까지는 인정될 수 있습니다. 토큰 재발급으로 교체되는 토큰(remove)은 기다리지 않습니다.
+ * 새 액세스 토큰을 발급받는 리프레시 토큰은 항상 기본 노드에서 확인합니다.
+ *
+ * 이전 형식 토큰 확인/삭제는 redis.legacyMigration.enabled 가 켜져 있을 때만 하며, 이전 형식 키는 슬롯이 제각각이라
+ * 현재 형식 키와 따로 보냅니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TokenStorageService {
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisReadReplica redisReadReplica;
+    private final AuthenticationCache authenticationCache;
 
     @Value("${spring.jwt.tokenExpire:30}")
     private Long accessTokenExpireMinutes;
@@ -21,64 +48,231 @@ public class TokenStorageService {
     @Value("${spring.jwt.refreshTokenExpire:20160}")
     private Long refreshTokenExpireMinutes;
 
+    // LegacyRedisKeyMigration 과 같은 설정. 옮기기가 끝나 끄면 이전 형식 조회도 하지 않음
+    @Value("${redis.legacyMigration.enabled:true}")
+    private boolean legacyFallbackEnabled;
+
     private static final String ACCESS_TOKEN_PREFIX = "access_token:";
     private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+    private static final String TOKEN_INDEX_PREFIX = "token_index:";
+    private static final String REPLICATION_FENCE_PREFIX = "replication_fence:";
+
+    // 이전 형식. 리프레시 토큰 만료 기간(기본 14일)이 지나면 제거 가능
+    // - 해시 태그 도입 전: access_token:{해시}, token_index:{email} 처럼 태그 없이 저장
+    // - 해시 키 도입 전: 원본 JWT 를 키로, JDK 직렬화해 저장
+    private static final String LEGACY_REVOKED_PREFIX = "legacy_token_revoked:";
 
     public void storeAccessToken(String accessToken, String email) {
-        String key = ACCESS_TOKEN_PREFIX + accessToken;
-        redisTemplate.opsForValue().set(key, email, Duration.ofMinutes(accessTokenExpireMinutes));
+        store(accessTokenKey(accessToken, email), email, accessTokenTtl());
         log.debug("Access token stored for email: {}", email);
     }
 
     public void storeRefreshToken(String refreshToken, String email) {
-        String key = REFRESH_TOKEN_PREFIX + refreshToken;
-        redisTemplate.opsForValue().set(key, email, Duration.ofMinutes(refreshTokenExpireMinutes));
+        store(refreshTokenKey(refreshToken, email), email, refreshTokenTtl());
         log.debug("Refresh token stored for email: {}", email);
     }
 
     public boolean isValidAccessToken(String accessToken, String email) {
-        String key = ACCESS_TOKEN_PREFIX + accessToken;
-        String storedEmail = redisTemplate.opsForValue().get(key);
-        return email.equals(storedEmail);
+        String key = accessTokenKey(accessToken, email);
+        String storedEmail = readFromReplica(key);
+        if (storedEmail != null) {
+            return email.equals(storedEmail);
+        }
+        return isValid(key, ACCESS_TOKEN_PREFIX, accessToken, email, accessTokenTtl());
     }
 
     public boolean isValidRefreshToken(String refreshToken, String email) {
-        String key = REFRESH_TOKEN_PREFIX + refreshToken;
-        String storedEmail = redisTemplate.opsForValue().get(key);
-        return email.equals(storedEmail);
+        return isValid(refreshTokenKey(refreshToken, email), REFRESH_TOKEN_PREFIX, refreshToken, email, refreshTokenTtl());
     }
 
-    public void removeAccessToken(String accessToken) {
-        String key = ACCESS_TOKEN_PREFIX + accessToken;
-        redisTemplate.delete(key);
-        log.debug("Access token removed: {}", accessToken);
+    /**
+     * 토큰 재발급으로 교체되는 토큰을 지웁니다. 복제본을 기다리지 않으므로 복제 지연 동안은 복제본에서 인정될 수 있습니다.
+     * 토큰 키만 지웁니다. 색인에 남은 항목은 만료 시각이 지나면 정리되고, 전체 폐기 시 UNLINK 해도 무해합니다.
+     */
+    public void removeAccessToken(String accessToken, String email) {
+        unlinkAllFormats(accessTokenKey(accessToken, email), ACCESS_TOKEN_PREFIX, accessToken);
+        authenticationCache.evict(accessToken);
+        log.debug("Access token removed");
     }
 
-    public void removeRefreshToken(String refreshToken) {
-        String key = REFRESH_TOKEN_PREFIX + refreshToken;
-        redisTemplate.delete(key);
-        log.debug("Refresh token removed: {}", refreshToken);
+    /**
+     * 로그아웃처럼 바로 거부되어야 하는 토큰을 지우고, 복제본이 삭제를 받을 때까지 기다립니다.
+     */
+    public void revokeAccessToken(String accessToken, String email) {
+        unlinkAllFormats(accessTokenKey(accessToken, email), ACCESS_TOKEN_PREFIX, accessToken);
+        redisReadReplica.awaitReplication(fenceKey(email));
+        authenticationCache.evict(accessToken);
+        log.debug("Access token revoked");
+    }
+
+    public void removeRefreshToken(String refreshToken, String email) {
+        unlinkAllFormats(refreshTokenKey(refreshToken, email), REFRESH_TOKEN_PREFIX, refreshToken);
+        log.debug("Refresh token removed");
     }
 
     public void removeAllTokensForEmail(String email) {
-        // Access token 패턴으로 검색하여 삭제
-        String accessPattern = ACCESS_TOKEN_PREFIX + "*";
-        String refreshPattern = REFRESH_TOKEN_PREFIX + "*";
-        
-        redisTemplate.keys(accessPattern).forEach(key -> {
-            String storedEmail = redisTemplate.opsForValue().get(key);
-            if (email.equals(storedEmail)) {
-                redisTemplate.delete(key);
-            }
-        });
-        
-        redisTemplate.keys(refreshPattern).forEach(key -> {
-            String storedEmail = redisTemplate.opsForValue().get(key);
-            if (email.equals(storedEmail)) {
-                redisTemplate.delete(key);
-            }
+        String indexKey = indexKey(email);
+        Set<String> range = stringRedisTemplate.opsForZSet().range(indexKey, 0, -1);
+        Set<String> tokenKeys = range != null ? range : Set.of();
+
+        // 색인과 토큰 키가 같은 슬롯이므로 한 번의 파이프라인으로 처리
+        if (!tokenKeys.isEmpty()) {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) redisConnection -> {
+                StringRedisConnection connection = (StringRedisConnection) redisConnection;
+                connection.unlink(tokenKeys.toArray(String[]::new));
+                // 읽은 뒤 새로 로그인해 추가된 항목은 남겨 둠
+                connection.zRem(indexKey, tokenKeys.toArray(String[]::new));
+                return null;
+            });
+        }
+
+        int previousTokenCount = legacyFallbackEnabled ? removeAllLegacyTokens(email) : 0;
+
+        redisReadReplica.awaitReplication(fenceKey(email));
+        authenticationCache.evictAllForEmail(email);
+        log.info("All tokens removed for email: {} ({} token(s))", email, tokenKeys.size() + previousTokenCount);
+    }
+
+    /**
+     * 이전 형식 토큰을 지웁니다. 이전 색인과 그 토큰 키는 해시 태그가 없어 슬롯이 제각각이므로 파이프라인으로 묶지 않습니다.
+     *
+     * @return 지운 해시 태그 도입 전 토큰 수
+     */
+    private int removeAllLegacyTokens(String email) {
+        String previousIndexKey = TOKEN_INDEX_PREFIX + email;
+        Set<String> previousTokenKeys = stringRedisTemplate.opsForZSet().range(previousIndexKey, 0, -1);
+        if (previousTokenKeys != null && !previousTokenKeys.isEmpty()) {
+            stringRedisTemplate.unlink(previousTokenKeys);
+            stringRedisTemplate.unlink(previousIndexKey);
+        }
+        // 색인에 없는 JDK 직렬화 형식 토큰은 더 이상 인정하지 않음
+        stringRedisTemplate.opsForValue().set(LEGACY_REVOKED_PREFIX + email, "1", refreshTokenTtl());
+        return previousTokenKeys != null ? previousTokenKeys.size() : 0;
+    }
+
+    /**
+     * JDK 직렬화 형식으로 저장된 토큰을 새 형식으로 옮기고 이전 키를 지웁니다. 전체 폐기된 사용자의 토큰은 옮기지 않습니다.
+     *
+     * @param legacyKey 직렬화 전 키 (access_token:{원본 토큰} 또는 refresh_token:{원본 토큰})
+     * @param remaining 남은 유효 기간. null 이면 리프레시 토큰 유효 기간
+     * @return 옮겼으면 true
+     */
+    public boolean migrateLegacyToken(String legacyKey, String email, Duration remaining) {
+        String key;
+        if (legacyKey.startsWith(ACCESS_TOKEN_PREFIX)) {
+            key = accessTokenKey(legacyKey.substring(ACCESS_TOKEN_PREFIX.length()), email);
+        } else if (legacyKey.startsWith(REFRESH_TOKEN_PREFIX)) {
+            key = refreshTokenKey(legacyKey.substring(REFRESH_TOKEN_PREFIX.length()), email);
+        } else {
+            return false;
+        }
+
+        boolean migrated = !Boolean.TRUE.equals(stringRedisTemplate.hasKey(LEGACY_REVOKED_PREFIX + email));
+        if (migrated) {
+            store(key, email, remaining != null ? remaining : refreshTokenTtl());
+        }
+        byte[] rawLegacyKey = JdkSerializedString.encode(legacyKey);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().unlink(rawLegacyKey));
+        return migrated;
+    }
+
+    private void store(String key, String email, Duration ttl) {
+        String indexKey = indexKey(email);
+        long now = System.currentTimeMillis();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) redisConnection -> {
+            StringRedisConnection connection = (StringRedisConnection) redisConnection;
+            connection.set(key, email, Expiration.from(ttl), RedisStringCommands.SetOption.upsert());
+            connection.zAdd(indexKey, now + ttl.toMillis(), key);
+            // 이미 만료된 토큰 항목 정리
+            connection.zRemRangeByScore(indexKey, Double.NEGATIVE_INFINITY, now);
+            // 색인은 가장 긴 토큰(리프레시 토큰)보다 오래 남아 있으면 됨
+            connection.pExpire(indexKey, refreshTokenTtl().toMillis());
+            return null;
         });
-        
-        log.info("All tokens removed for email: {}", email);
     }
-}
\ No newline at end of file
+
+    /**
+     * 복제본에서 읽습니다. 기본 노드와 끊긴 복제본은 오래된 값을 주지 않고 오류를 내므로(replica-serve-stale-data no)
+     * 오류는 없는 것으로 보고 기본 노드에서 다시 확인하게 합니다.
+     */
+    private String readFromReplica(String key) {
+        try {
+            return redisReadReplica.template().opsForValue().get(key);
+        } catch (Exception e) {
+            log.debug("Replica read failed, falling back to primary: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 기본 노드에서 확인합니다. 현재 형식에 없고 이전 형식 옮기기가 켜져 있을 때만 이전 형식을 확인합니다.
+     */
+    private boolean isValid(String key, String prefix, String token, String email, Duration ttl) {
+        String storedEmail = stringRedisTemplate.opsForValue().get(key);
+        if (storedEmail != null) {
+            return email.equals(storedEmail);
+        }
+        return legacyFallbackEnabled && isValidLegacy(key, prefix, token, email, ttl);
+    }
+
+    /**
+     * 이전 형식 토큰은 새 형식으로 옮겨 계속 인정합니다. JWT 자체의 만료 시각은 그대로이므로 TTL 은 새로 잡아도 됩니다.
+     */
+    private boolean isValidLegacy(String key, String prefix, String token, String email, Duration ttl) {
+        String previousKey = prefix + TokenHashUtil.hash(token);
+        if (email.equals(stringRedisTemplate.opsForValue().get(previousKey))) {
+            store(key, email, ttl);
+            stringRedisTemplate.unlink(previousKey);
+            return true;
+        }
+
+        byte[] rawLegacyKey = JdkSerializedString.encode(prefix + token);
+        byte[] legacyEmail = stringRedisTemplate.execute(
+            (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawLegacyKey));
+        if (email.equals(JdkSerializedString.decode(legacyEmail))) {
+            return migrateLegacyToken(prefix + token, email, ttl);
+        }
+        return false;
+    }
+
+    private void unlinkAllFormats(String key, String prefix, String token) {
+        stringRedisTemplate.unlink(key);
+        if (!legacyFallbackEnabled) {
+            return;
+        }
+        // 이전 형식 키는 슬롯이 제각각이므로 따로 보냄
+        stringRedisTemplate.unlink(prefix + TokenHashUtil.hash(token));
+        byte[] rawLegacyKey = JdkSerializedString.encode(prefix + token);
+        stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().unlink(rawLegacyKey));
+    }
+
+    private Duration accessTokenTtl() {
+        return Duration.ofMinutes(accessTokenExpireMinutes);
+    }
+
+    private Duration refreshTokenTtl() {
+        return Duration.ofMinutes(refreshTokenExpireMinutes);
+    }
+
+    private static String tag(String email) {
+        return "{" + email + "}";
+    }
+
+    // 토큰 키와 같은 슬롯에 쓰고 WAIT 해 그 이전 삭제까지 복제되었는지 확인
+    private static String fenceKey(String email) {
+        return REPLICATION_FENCE_PREFIX + tag(email);
+    }
+
+    private static String indexKey(String email) {
+        return TOKEN_INDEX_PREFIX + tag(email);
+    }
+
+    private static String accessTokenKey(String accessToken, String email) {
+        return ACCESS_TOKEN_PREFIX + tag(email) + ":" + TokenHashUtil.hash(accessToken);
+    }
+
+    private static String refreshTokenKey(String refreshToken, String email) {
+        return REFRESH_TOKEN_PREFIX + tag(email) + ":" + TokenHashUtil.hash(refreshToken);
+    }
+}
@@ -0,0 +1,109 @@
+package com.wudc.storypool.global.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 2차 캐시(노드별 Caffeine)의 노드 간 무효화.
+ *
+ * 같은 노드의 변경은 Hibernate 가 캐시를 직접 갱신하므로, 여기서는 커밋 직후 Redis pub/sub 으로
+ * 다른 노드에 "엔티티:ID" 를 알리고 받은 노드가 자신의 캐시에서 해당 엔티티와 컬렉션을 제거합니다.
+ * 메시지가 유실되더라도 리전별 만료 시간(hibernate-cache.conf)이 지나면 다시 DB 에서 읽습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheInvalidator implements MessageListener {
+
+    public static final String CHANNEL = "cache:entity:evict";
+    private static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 다른 노드에 엔티티 캐시 제거를 요청합니다.
+     * queryRegions 에는 해당 엔티티를 조회하는 쿼리 캐시 리전을 지정합니다.
+     */
+    public void evict(Class<?> entityClass, String id, String... queryRegions) {
+        String message = String.join(SEPARATOR, nodeId, entityClass.getName(), id, String.join(",", queryRegions));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(message);
+                }
+            });
+        } else {
+            publish(message);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", -1);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        EntityType<?> entityType = findEntityType(parts[1]);
+        if (entityType == null) {
+            log.warn("Unknown entity in cache eviction message: {}", parts[1]);
+            return;
+        }
+
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        String id = parts[2];
+        cache.evictEntityData(entityType.getJavaType(), id);
+        entityType.getPluralAttributes().forEach(attribute ->
+            cache.evictCollectionData(entityType.getJavaType().getName() + "." + attribute.getName(), id));
+
+        if (!parts[3].isEmpty()) {
+            for (String region : parts[3].split(",")) {
+                cache.evictQueryRegion(region);
+            }
+        }
+        log.debug("Evicted cached entity {}#{} on remote change", entityType.getName(), id);
+    }
+
+    private void publish(String message) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 전파에 실패해도 다른 노드 캐시는 만료 시간 이후 갱신됨
+            log.warn("Failed to publish cache eviction: {}", message, e);
+        }
+    }
+
+    private EntityType<?> findEntityType(String className) {
+        return entityManagerFactory.getMetamodel().getEntities().stream()
+            .filter(type -> type.getJavaType().getName().equals(className))
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -0,0 +1,86 @@
+package com.wudc.storypool.global.config;
+
+import com.wudc.storypool.global.datasource.ReplicaDataSourceProperties;
+import com.wudc.storypool.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 복제본을 설정하면(datasource.replica.enabled=true) 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource 를 등록합니다.
+ * 기본 DB 풀은 Boot 기본 설정(spring.datasource.*)과 같게 만들고, 복제본 풀은 그 설정을 복사해 주소와 크기만 바꿉니다.
+ * 풀마다 이름(primary, replica-1, ...)이 달라 hikaricp.* 지표가 대상별로 나뉩니다.
+ * 설정하지 않으면 이 구성은 빠지고 Boot 가 만드는 단일 DataSource 를 그대로 씁니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    // 마이그레이션은 세션 잠금(GET_LOCK)을 쓰므로 트랜잭션마다 커넥션을 바꾸는 라우팅 DataSource 대신 기본 DB 풀을 직접 사용
+    @FlywayDataSource
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public ReplicaRoutingDataSource dataSource(
+        HikariDataSource primaryDataSource,
+        ReplicaDataSourceProperties replicaProperties,
+        MeterRegistry meterRegistry
+    ) {
+        List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : replicaProperties.getUrls()) {
+            String name = "replica-" + (replicas.size() + 1);
+            replicas.add(new ReplicaRoutingDataSource.Replica(
+                name,
+                replicaDataSource(primaryDataSource, replicaProperties, meterRegistry, name, url),
+                replicaProperties.getHealthCheckIntervalMs()));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaProperties, meterRegistry);
+    }
+
+    private HikariDataSource replicaDataSource(
+        HikariDataSource primaryDataSource,
+        ReplicaDataSourceProperties replicaProperties,
+        MeterRegistry meterRegistry,
+        String name,
+        String url
+    ) {
+        HikariConfig config = new HikariConfig();
+        primaryDataSource.copyStateTo(config);
+        config.setPoolName(name);
+        config.setJdbcUrl(url.trim());
+        if (StringUtils.hasText(replicaProperties.getUsername())) {
+            config.setUsername(replicaProperties.getUsername());
+        }
+        if (StringUtils.hasText(replicaProperties.getPassword())) {
+            config.setPassword(replicaProperties.getPassword());
+        }
+        config.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        config.setMinimumIdle(replicaProperties.getMinimumIdle());
+        config.setReadOnly(true);
+        // 복제본이 내려가 있어도 기동은 하고, 상태 확인에서 제외됨
+        config.setInitializationFailTimeout(-1);
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return new HikariDataSource(config);
+    }
+}
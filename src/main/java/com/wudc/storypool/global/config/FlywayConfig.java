@@ -0,0 +1,33 @@
+package com.wudc.storypool.global.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * 일회성 스키마 변경과 데이터 백필을 Flyway 마이그레이션으로 실행합니다.
+ *
+ * 테이블과 컬럼은 지금처럼 JPA(ddl-auto)가 만들고, JPA 로 표현할 수 없는 변경(FULLTEXT 인덱스 등)과 기존 행 백필만
+ * global.migration 의 마이그레이션으로 둡니다. 실행 결과는 flyway_schema_history 에 남아 한 번만 실행되고,
+ * 여러 노드가 동시에 기동해도 Flyway 의 DB 잠금으로 한 노드만 실행합니다.
+ *
+ * Boot 는 JPA 초기화 전에 마이그레이션하지만 그 시점에는 새 DB 에 테이블이 없으므로,
+ * 기본 실행은 건너뛰고 EntityManagerFactory(ddl-auto) 초기화 뒤에 실행합니다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy() {
+        return flyway -> { };
+    }
+
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public InitializingBean flywayMigrationAfterJpa(Flyway flyway) {
+        return flyway::migrate;
+    }
+}
@@ -15,14 +15,42 @@ public class LlmConfig {
     private Fairytale fairytale = new Fairytale();
     private int timeout;
     private String serviceToken;
+    private Pool pool = new Pool();
+    private Health health = new Health();
     
     @Getter
     @Setter
     public static class Fairytale {
         private String generateEndpoint;
     }
+
+    /**
+     * LLM 서버 호출용 커넥션 풀 설정 (timeout 은 응답 대기 시간으로 사용)
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+        private int connectTimeout = 3000;
+        private int acquireTimeout = 2000;
+        private int maxTotal = 50;
+        private int maxPerRoute = 20;
+        private long keepAliveMs = 30000;
+        private long idleEvictMs = 60000;
+    }
+
+    @Getter
+    @Setter
+    public static class Health {
+        private String endpoint = "/health";
+        private int timeout = 2000;
+        private long cacheTtlMs = 10000;
+    }
     
     public String getFairytaleGenerateUrl() {
         return baseUrl + fairytale.generateEndpoint;
     }
-}
\ No newline at end of file
+
+    public String getHealthUrl() {
+        return baseUrl + health.endpoint;
+    }
+}
@@ -1,35 +1,87 @@
 package com.wudc.storypool.global.config;
 
-import org.springframework.beans.factory.annotation.Value;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.util.concurrent.Executor;
 
+/**
+ * Redis 연결과 템플릿 설정.
+ *
+ * 연결 팩토리는 Boot 자동 설정을 그대로 써서 spring.data.redis.* (비밀번호, 타임아웃)가 적용되고
+ * Lettuce 명령 지연 지표(lettuce.command.*)가 기록됩니다. 여기서는 클라이언트 옵션만 덧붙입니다.
+ * 문자열 값은 StringRedisTemplate 을, 구조화된 값은 타입별 템플릿(Smile 직렬화)을 사용합니다.
+ */
 @Configuration
-@EnableRedisRepositories(
-    enableKeyspaceEvents = RedisKeyValueAdapter.EnableKeyspaceEvents.ON_STARTUP)
 public class RedisConfig {
-    @Value("${spring.data.redis.host}")
-    private String host;
-    @Value("${spring.data.redis.port}")
-    private Integer port;
 
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory(host, port);
+    public LettuceClientConfigurationBuilderCustomizer lettuceClientOptionsCustomizer() {
+        return builder -> {
+            // Boot 가 만든 옵션(연결 타임아웃, 클러스터 설정 등)을 유지한 채 덧붙임
+            ClientOptions base = builder.build().getClientOptions().orElseGet(ClientOptions::create);
+            builder.clientOptions(base.mutate()
+                .autoReconnect(true)
+                // 연결이 끊긴 동안 명령을 쌓아 두지 않고 바로 실패시켜 요청 스레드가 묶이지 않게 함
+                .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                // 명령 타임아웃(spring.data.redis.timeout)을 블로킹 호출뿐 아니라 파이프라인/비동기 명령에도 적용
+                .timeoutOptions(TimeoutOptions.enabled())
+                .socketOptions(base.getSocketOptions().mutate().keepAlive(true).build())
+                .build());
+        };
     }
 
     @Bean
-    public RedisTemplate redisTemplate() {
-        RedisTemplate<ByteArrayInputStream, ByteArrayOutputStream> template = new RedisTemplate<>();
-        template.setConnectionFactory(redisConnectionFactory());
+    public RedisTemplate<String, PostListResponse> postFeedRedisTemplate(
+        RedisConnectionFactory redisConnectionFactory,
+        Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder
+    ) {
+        return typedTemplate(redisConnectionFactory, jackson2ObjectMapperBuilder, PostListResponse.class);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+        RedisConnectionFactory redisConnectionFactory,
+        @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor applicationTaskExecutor
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        // 메시지마다 스레드를 새로 만들지 않고 공용 실행기(가상 스레드 모드에서는 가상 스레드) 사용
+        container.setTaskExecutor(applicationTaskExecutor);
+        return container;
+    }
+
+    /**
+     * 키는 문자열, 값은 Smile(바이너리 JSON)로 저장하는 템플릿. 애플리케이션 ObjectMapper 와 같은 모듈/설정을 씁니다.
+     */
+    private static <T> RedisTemplate<String, T> typedTemplate(
+        RedisConnectionFactory redisConnectionFactory,
+        Jackson2ObjectMapperBuilder jackson2ObjectMapperBuilder,
+        Class<T> type
+    ) {
+        ObjectMapper smileMapper = jackson2ObjectMapperBuilder.build().copyWith(new SmileFactory());
+
+        RedisTemplate<String, T> template = new RedisTemplate<>();
+        template.setConnectionFactory(redisConnectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(new Jackson2JsonRedisSerializer<>(smileMapper, type));
+        template.setEnableDefaultSerializer(false);
+        template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,73 @@
 package com.wudc.storypool.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * LLM 서버 호출용 RestTemplate.
+ * 커넥션 풀(Apache HttpClient 5)을 사용하며 연결/응답/풀 대기 시간을 따로 제한합니다.
+ * RestTemplateBuilder 로 만들어 http.client.requests 지표(경로별 지연 히스토그램)가 기록되고,
+ * 풀 사용량은 httpcomponents.httpclient.pool.* 지표로 노출됩니다.
+ */
 @Configuration
 public class RestTemplateConfig {
-    
+
     @Autowired
     private LlmConfig llmConfig;
-    
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager llmConnectionManager(MeterRegistry meterRegistry) {
+        LlmConfig.Pool pool = llmConfig.getPool();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(pool.getMaxTotal())
+            .setMaxConnPerRoute(pool.getMaxPerRoute())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(pool.getConnectTimeout()))
+                .setSocketTimeout(Timeout.ofMilliseconds(llmConfig.getTimeout()))
+                .setTimeToLive(TimeValue.ofMilliseconds(pool.getKeepAliveMs()))
+                .build())
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "llm", Tags.empty())
+            .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient llmHttpClient(PoolingHttpClientConnectionManager llmConnectionManager) {
+        LlmConfig.Pool pool = llmConfig.getPool();
+        // gzip/deflate 응답 압축 해제는 HttpClient 기본 동작
+        return HttpClients.custom()
+            .setConnectionManager(llmConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(pool.getAcquireTimeout()))
+                .setResponseTimeout(Timeout.ofMilliseconds(llmConfig.getTimeout()))
+                .build())
+            .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(pool.getKeepAliveMs()))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(pool.getIdleEvictMs()))
+            .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(llmConfig.getTimeout());
-        factory.setReadTimeout(llmConfig.getTimeout());
-        
-        return new RestTemplate(factory);
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder, CloseableHttpClient llmHttpClient) {
+        return restTemplateBuilder
+            .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(llmHttpClient))
+            .build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,212 @@
+package com.wudc.storypool.global.counter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 카운터 증가분을 Redis 해시(HINCRBY)에 모아 두고 주기적으로 배치 UPDATE 로 MySQL 에 반영합니다.
+ * 플러시 중인 증가분은 별도 해시로 옮겨 두므로, 조회 시 DB 값 + 누적 중 + 플러시 중 값을 더하면
+ * 반영 전 증가분까지 포함한 값을 얻을 수 있습니다.
+ *
+ * 플러시 중인 해시에는 배치 ID 를 함께 두고, UPDATE 와 같은 트랜잭션에서 counter_flush_log 에 기록합니다.
+ * - 반영 후 Redis 정리 전에 실패해 다시 플러시해도 이미 기록된 배치는 건너뛰므로 두 번 더해지지 않습니다.
+ * - 반영 직후 해시를 지우기 전까지의 조회는 호출한 트랜잭션(스냅샷)에서 배치 기록이 보이면 플러시 중인 값을 빼므로
+ *   DB 반영 전후로 값이 겹치거나 줄어들지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CounterBuffer {
+
+    private static final String KEY_PREFIX = "counter:";
+    private static final String FLUSHING_SUFFIX = ":flushing";
+    private static final String LOCK_SUFFIX = ":lock";
+    private static final String BATCH_FIELD = "__batch";
+    private static final String FLUSH_LOG_TABLE = "counter_flush_log";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final RedisScript<List> PENDING_SCRIPT = new DefaultRedisScript<>(
+        "local live = redis.call('HMGET', KEYS[1], unpack(ARGV)) " +
+        "local flushing = redis.call('HMGET', KEYS[2], unpack(ARGV)) " +
+        "return {live, flushing, redis.call('HGET', KEYS[2], '" + BATCH_FIELD + "')}",
+        List.class
+    );
+
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        // counter_flush_log 은 마이그레이션(db/migration V3)에서 만듦
+        ready = true;
+    }
+
+    public void increment(CounterType type, String id) {
+        increment(type, id, 1L);
+    }
+
+    public void increment(CounterType type, String id, long delta) {
+        stringRedisTemplate.opsForHash().increment(liveKey(type), id, delta);
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증가분
+     */
+    public long getPendingDelta(CounterType type, String id) {
+        return getPendingDeltas(type, List.of(id)).getOrDefault(id, 0L);
+    }
+
+    public Map<String, Long> getPendingDeltas(CounterType type, Collection<String> ids) {
+        Map<String, Long> deltas = new HashMap<>();
+        if (ids.isEmpty()) {
+            return deltas;
+        }
+
+        // 누적 중/플러시 중 해시를 한 번에 읽어야 그 사이 RENAME 으로 값이 겹치거나 빠지지 않음
+        List<?> result = stringRedisTemplate.execute(PENDING_SCRIPT, List.of(liveKey(type), flushingKey(type)),
+            ids.toArray(Object[]::new));
+        List<?> live = (List<?>) result.get(0);
+        List<?> flushing = (List<?>) result.get(1);
+
+        // 이미 DB 에 반영된 배치면 플러시 중인 값은 DB 값에 들어 있음
+        Object batchId = result.size() > 2 ? result.get(2) : null;
+        boolean flushingApplied = batchId != null
+            && flushing.stream().anyMatch(value -> toLong(value) != 0)
+            && isApplied(batchId.toString());
+
+        int index = 0;
+        for (String id : ids) {
+            long delta = toLong(live.get(index)) + (flushingApplied ? 0 : toLong(flushing.get(index)));
+            if (delta != 0) {
+                deltas.put(id, delta);
+            }
+            index++;
+        }
+        return deltas;
+    }
+
+    @Scheduled(fixedDelayString = "${counter.flushIntervalMs:5000}")
+    public void flushAll() {
+        if (!ready) {
+            return;
+        }
+        for (CounterType type : CounterType.values()) {
+            try {
+                flush(type);
+            } catch (Exception e) {
+                log.error("Failed to flush counter: {}", type, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushAll();
+    }
+
+    private void flush(CounterType type) {
+        String lockKey = liveKey(type) + LOCK_SUFFIX;
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(lockKey, nodeId, LOCK_TIMEOUT);
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+
+        try {
+            String flushingKey = flushingKey(type);
+
+            // 이전 플러시가 반영까지 끝났으면 정리, 반영 전에 실패했으면 남은 증가분을 같은 배치 ID 로 다시 반영
+            Object previousBatchId = stringRedisTemplate.opsForHash().get(flushingKey, BATCH_FIELD);
+            if (previousBatchId != null && isApplied(previousBatchId.toString())) {
+                stringRedisTemplate.delete(flushingKey);
+            }
+
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(flushingKey))) {
+                if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(liveKey(type)))) {
+                    return;
+                }
+                stringRedisTemplate.renameIfAbsent(liveKey(type), flushingKey);
+            }
+            stringRedisTemplate.opsForHash().putIfAbsent(flushingKey, BATCH_FIELD, UUID.randomUUID().toString());
+
+            Map<Object, Object> pending = stringRedisTemplate.opsForHash().entries(flushingKey);
+            String batchId = pending.remove(BATCH_FIELD).toString();
+            List<Object[]> batchArgs = new ArrayList<>(pending.size());
+            pending.forEach((id, delta) -> {
+                long value = toLong(delta);
+                if (value != 0) {
+                    batchArgs.add(new Object[]{value, id});
+                }
+            });
+
+            String sql = "UPDATE " + type.getTable() + " SET " + type.getColumn() + " = GREATEST(" + type.getColumn() + " + ?, 0)"
+                + (type.getDerivedAssignment() != null ? ", " + type.getDerivedAssignment() : "")
+                + " WHERE id = ?";
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                int logged = jdbcTemplate.update(
+                    "INSERT IGNORE INTO " + FLUSH_LOG_TABLE + " (batch_id, applied_at) VALUES (?, NOW(6))", batchId);
+                if (logged == 0) {
+                    return;
+                }
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(sql, batchArgs);
+                }
+            });
+            // 여기서 실패해도 다음 플러시 때 지우고, 그 전까지 조회는 배치 기록을 보고 중복을 뺌
+            stringRedisTemplate.delete(flushingKey);
+
+            jdbcTemplate.update("DELETE FROM " + FLUSH_LOG_TABLE + " WHERE applied_at < NOW(6) - INTERVAL 1 DAY LIMIT 1000");
+            log.debug("Flushed {} pending {} counter(s), batch: {}", batchArgs.size(), type, batchId);
+        } finally {
+            // 잠금이 만료되어 다른 노드가 잡았으면 지우지 않도록 확인과 삭제를 한 번에
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), nodeId);
+        }
+    }
+
+    private boolean isApplied(String batchId) {
+        Integer count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + FLUSH_LOG_TABLE + " WHERE batch_id = ?", Integer.class, batchId);
+        return count != null && count > 0;
+    }
+
+    // 클러스터에서도 RENAME 과 조회 스크립트가 되도록 같은 슬롯에 둠
+    private String liveKey(CounterType type) {
+        return KEY_PREFIX + "{" + type.getKey() + "}";
+    }
+
+    private String flushingKey(CounterType type) {
+        return liveKey(type) + FLUSHING_SUFFIX;
+    }
+
+    private long toLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+}
@@ -0,0 +1,21 @@
+package com.wudc.storypool.global.counter;
+
+import com.wudc.storypool.domain.post.entity.Post;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 에 누적했다가 주기적으로 MySQL 에 반영하는 카운터 목록.
+ * 새 카운터는 대상 테이블과 컬럼만 추가하면 동일한 엔진으로 처리됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+    POST_VIEW("post_view", "post", "view_count", "popularity_score = " + Post.POPULARITY_SCORE_SQL);
+
+    private final String key;
+    private final String table;
+    private final String column;
+    // 카운터 반영 시 함께 갱신할 파생 컬럼 (없으면 null)
+    private final String derivedAssignment;
+}
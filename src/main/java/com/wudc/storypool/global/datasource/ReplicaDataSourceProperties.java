@@ -0,0 +1,41 @@
+package com.wudc.storypool.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 MySQL 복제본 설정. 그 외 커넥션 풀 설정은 spring.datasource.hikari 를 그대로 따릅니다.
+ */
+@Component
+@Getter @Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+    private boolean enabled = false;
+    private List<String> urls = new ArrayList<>();
+    private String username;
+    private String password;
+    private int maximumPoolSize = 20;
+    private int minimumIdle = 5;
+
+    /**
+     * 복제 지연이 이 값을 넘거나 확인에 실패한 복제본은 다음 확인 때까지 제외합니다. 모두 제외되면 기본 DB 에서 읽습니다.
+     * 지연은 heartbeat 간격 단위로 측정되므로 healthCheckIntervalMs 보다 커야 합니다.
+     */
+    private long maxLagMs = 5_000;
+
+    /**
+     * 확인은 전용 스레드에서 이 간격으로 돕니다. 마지막 확인이 간격의 3배보다 오래되면 결과와 관계없이 제외합니다.
+     */
+    private long healthCheckIntervalMs = 1_000;
+
+    /**
+     * 쓰기 트랜잭션을 커밋한 사용자는 이 시간 동안 기본 DB 에서 읽어 자신이 쓴 내용을 바로 봅니다. 0 이면 끔.
+     */
+    private long stickyMs = 5_000;
+    private int stickyCacheSize = 100_000;
+}
@@ -0,0 +1,119 @@
+package com.wudc.storypool.global.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본의 복제 지연을 확인해 라우팅 대상에서 넣고 뺍니다.
+ *
+ * SHOW REPLICA STATUS 는 권한이 필요하고 관리형 DB 의 읽기 엔드포인트에서는 비어 있을 수 있으므로,
+ * 기본 DB 에 주기적으로 시각을 기록하고(heartbeat) 복제본에서 그 시각이 얼마나 뒤처졌는지로 지연을 잽니다.
+ * 두 서버의 시계 차이만큼 오차가 있고, 기록 간격만큼 크게 측정될 수 있습니다.
+ *
+ * 공용 스케줄러 스레드는 다른 작업이 오래 잡고 있을 수 있으므로 전용 스레드에서 확인합니다.
+ * 그래도 확인이 밀리면 복제본은 스스로 정상 상태를 잃습니다(Replica#isHealthy).
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String HEARTBEAT_TABLE = "replication_heartbeat";
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final long maxLagMs;
+    private final long healthCheckIntervalMs;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "replica-lag-monitor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile boolean ready;
+
+    public ReplicaLagMonitor(
+        ReplicaRoutingDataSource routingDataSource,
+        HikariDataSource primaryDataSource,
+        ReplicaDataSourceProperties properties
+    ) {
+        this.routingDataSource = routingDataSource;
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.maxLagMs = properties.getMaxLagMs();
+        this.healthCheckIntervalMs = properties.getHealthCheckIntervalMs();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        primaryJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + HEARTBEAT_TABLE +
+            " (id TINYINT PRIMARY KEY, beat_at DATETIME(6) NOT NULL)");
+        ready = true;
+        monitor();
+        scheduler.scheduleWithFixedDelay(() -> {
+            // 예외가 나가면 이후 실행이 취소되므로 여기서 막음
+            try {
+                monitor();
+            } catch (Exception e) {
+                log.warn("Replica check failed: {}", e.getMessage());
+            }
+        }, healthCheckIntervalMs, healthCheckIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    public void monitor() {
+        if (!ready) {
+            return;
+        }
+        try {
+            beat();
+        } catch (Exception e) {
+            log.warn("Failed to write replication heartbeat: {}", e.getMessage());
+        }
+        checkReplicas();
+    }
+
+    public void beat() {
+        primaryJdbcTemplate.update("INSERT INTO " + HEARTBEAT_TABLE + " (id, beat_at) VALUES (1, NOW(6)) " +
+            "ON DUPLICATE KEY UPDATE beat_at = NOW(6)");
+    }
+
+    public void checkReplicas() {
+        for (ReplicaRoutingDataSource.Replica replica : routingDataSource.getReplicas()) {
+            boolean wasHealthy = replica.isHealthy();
+            try {
+                Long lagMicros = new JdbcTemplate(replica.getDataSource()).queryForObject(
+                    "SELECT TIMESTAMPDIFF(MICROSECOND, beat_at, NOW(6)) FROM " + HEARTBEAT_TABLE + " WHERE id = 1",
+                    Long.class);
+                double lagMs = lagMicros == null ? Double.NaN : Math.max(lagMicros, 0) / 1000.0;
+                boolean healthy = lagMicros != null && lagMs <= maxLagMs;
+                replica.update(healthy, lagMs);
+                if (wasHealthy && !healthy) {
+                    log.warn("Replica {} lagging {}ms, reading from other targets", replica.getName(), lagMs);
+                }
+            } catch (Exception e) {
+                replica.update(false, Double.NaN);
+                if (wasHealthy) {
+                    log.warn("Replica {} check failed, reading from other targets: {}", replica.getName(), e.getMessage());
+                }
+            }
+            if (!wasHealthy && replica.isHealthy()) {
+                log.info("Replica {} back in rotation (lag {}ms)", replica.getName(), replica.getLagMs());
+            }
+        }
+    }
+}
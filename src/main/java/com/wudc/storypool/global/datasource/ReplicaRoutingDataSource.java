@@ -0,0 +1,346 @@
+package com.wudc.storypool.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wudc.storypool.global.security.principal.PrincipalDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 트랜잭션마다 기본 DB 와 복제본 중 하나를 골라 커넥션을 빌려주는 DataSource.
+ *
+ * 돌려주는 커넥션은 첫 쿼리 때 실제 커넥션을 빌리고 커밋/롤백하면 바로 반납합니다.
+ * JPA 트랜잭션은 시작할 때 커넥션을 잡지만 읽기 전용 여부는 그 뒤에 정해지므로 첫 쿼리까지 미루고,
+ * OSIV 로 한 요청의 여러 트랜잭션이 같은 Hibernate 세션(커넥션)을 쓰더라도 트랜잭션마다 다시 고르도록 반납합니다.
+ *
+ * - 읽기 전용 트랜잭션: 지연이 허용 범위인 복제본을 돌아가며 사용, 없거나 커넥션을 얻지 못하면 기본 DB
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 쿼리: 기본 DB
+ * - 최근 쓰기를 커밋한 사용자의 읽기 전용 트랜잭션: stickyMs 동안 기본 DB (노드별로 기억)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    public static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    @Getter
+    private final List<Replica> replicas;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile Integer defaultIsolation;
+
+    @Getter
+    public static class Replica {
+        // 이만큼의 확인을 연달아 놓치면 마지막 결과를 믿지 않음
+        private static final int MAX_MISSED_CHECKS = 3;
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final long maxCheckAgeNanos;
+        // 첫 확인 전까지는 사용하지 않음
+        private volatile boolean healthy;
+        private volatile double lagMs = Double.NaN;
+        private volatile long checkedAtNanos;
+
+        public Replica(String name, HikariDataSource dataSource, long healthCheckIntervalMs) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.maxCheckAgeNanos = TimeUnit.MILLISECONDS.toNanos(healthCheckIntervalMs * MAX_MISSED_CHECKS);
+        }
+
+        /**
+         * 마지막 확인 결과가 정상이고, 그 확인이 오래되지 않았을 때만 참입니다.
+         * 확인이 멈추면 그 사이 지연이 얼마나 늘었는지 알 수 없으므로 제외합니다.
+         */
+        public boolean isHealthy() {
+            return healthy && System.nanoTime() - checkedAtNanos <= maxCheckAgeNanos;
+        }
+
+        void update(boolean healthy, double lagMs) {
+            this.checkedAtNanos = System.nanoTime();
+            this.healthy = healthy;
+            this.lagMs = lagMs;
+        }
+    }
+
+    private record Route(String target, String reason, DataSource dataSource, Replica replica) {}
+
+    public ReplicaRoutingDataSource(
+        HikariDataSource primary,
+        List<Replica> replicas,
+        ReplicaDataSourceProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.meterRegistry = meterRegistry;
+        this.recentWriters = properties.getStickyMs() > 0
+            ? Caffeine.newBuilder()
+                .maximumSize(properties.getStickyCacheSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getStickyMs()))
+                .build()
+            : null;
+
+        for (Replica replica : this.replicas) {
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagMs)
+                .tag("replica", replica.getName())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+            Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                .tag("replica", replica.getName())
+                .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, new RoutingConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Routing data source uses the configured credentials");
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.getDataSource().close());
+    }
+
+    private Route route() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new Route(PRIMARY, "autocommit", primary, null);
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            return new Route(PRIMARY, "write", primary, null);
+        }
+
+        String userId = currentUserId();
+        if (userId != null && recentWriters != null && recentWriters.getIfPresent(userId) != null) {
+            return new Route(PRIMARY, "sticky", primary, null);
+        }
+
+        Replica replica = nextHealthyReplica();
+        if (replica == null) {
+            return new Route(PRIMARY, "fallback", primary, null);
+        }
+        return new Route(replica.getName(), "read", replica.getDataSource(), replica);
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.isHealthy()) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void rememberWriterOnCommit() {
+        if (recentWriters == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String userId = currentUserId();
+        if (userId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails) {
+            return principalDetails.getUserId();
+        }
+        return null;
+    }
+
+    private Connection acquire(Route route) throws SQLException {
+        try {
+            Connection connection = route.dataSource().getConnection();
+            meterRegistry.counter("datasource.routing", "target", route.target(), "reason", route.reason()).increment();
+            return connection;
+        } catch (SQLException e) {
+            if (route.replica() == null) {
+                throw e;
+            }
+            // 다음 상태 확인 전까지 이 복제본은 건너뜀
+            route.replica().update(false, route.replica().getLagMs());
+            log.warn("Replica {} unavailable, reading from primary: {}", route.target(), e.getMessage());
+            return acquire(new Route(PRIMARY, "fallback", primary, null));
+        }
+    }
+
+    /**
+     * 실제 커넥션을 빌리기 전까지 autoCommit/readOnly/격리 수준 설정을 기억해 두었다가 빌릴 때 적용하고,
+     * 커밋/롤백 후에는 반납해 다음 트랜잭션에서 다시 고릅니다. 반납된 커넥션의 상태는 Hikari 가 되돌립니다.
+     */
+    private class RoutingConnection implements InvocationHandler {
+
+        private Connection target;
+        private boolean autoCommit = true;
+        private boolean readOnly;
+        private Integer isolation;
+        private boolean closed;
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Routing connection" + (target != null ? " [" + target + "]" : "");
+                case "isClosed":
+                    return closed;
+                case "close":
+                    closed = true;
+                    release();
+                    return null;
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+
+            if (target == null) {
+                switch (name) {
+                    case "setAutoCommit":
+                        autoCommit = (Boolean) args[0];
+                        return null;
+                    case "getAutoCommit":
+                        return autoCommit;
+                    case "setReadOnly":
+                        readOnly = (Boolean) args[0];
+                        return null;
+                    case "isReadOnly":
+                        return readOnly;
+                    case "setTransactionIsolation":
+                        isolation = (Integer) args[0];
+                        return null;
+                    case "getTransactionIsolation":
+                        if (isolation != null || defaultIsolation != null) {
+                            return isolation != null ? isolation : defaultIsolation;
+                        }
+                        break;
+                    case "getWarnings":
+                        return null;
+                    case "clearWarnings":
+                        return null;
+                    case "commit":
+                    case "rollback":
+                        // 쿼리 없이 끝난 트랜잭션
+                        if (args == null || args.length == 0) {
+                            return null;
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                target = open();
+            } else {
+                // 트랜잭션 밖(OSIV 지연 로딩 등)에서 빌린 커넥션은 트랜잭션이 시작될 때 반납하고 다시 고름
+                if (name.equals("setAutoCommit") && autoCommit && !(Boolean) args[0]) {
+                    autoCommit = false;
+                    release();
+                    return null;
+                }
+                switch (name) {
+                    case "setAutoCommit" -> autoCommit = (Boolean) args[0];
+                    case "setReadOnly" -> readOnly = (Boolean) args[0];
+                    case "setTransactionIsolation" -> isolation = (Integer) args[0];
+                    default -> { }
+                }
+            }
+
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            } finally {
+                if ((name.equals("commit") || name.equals("rollback")) && (args == null || args.length == 0)) {
+                    release();
+                }
+            }
+        }
+
+        private Connection open() throws SQLException {
+            Route route = route();
+            Connection connection = acquire(route);
+            try {
+                if (defaultIsolation == null) {
+                    defaultIsolation = connection.getTransactionIsolation();
+                }
+                if (!autoCommit) {
+                    connection.setAutoCommit(false);
+                }
+                // 복제본 풀은 이미 읽기 전용
+                if (readOnly && route.replica() == null) {
+                    connection.setReadOnly(true);
+                }
+                if (isolation != null && !isolation.equals(defaultIsolation)) {
+                    connection.setTransactionIsolation(isolation);
+                }
+                return connection;
+            } catch (SQLException e) {
+                connection.close();
+                throw e;
+            }
+        }
+
+        private void release() throws SQLException {
+            if (target != null) {
+                Connection connection = target;
+                target = null;
+                connection.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.wudc.storypool.global.fcm;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.ApsAlert;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.wudc.storypool.domain.user.repository.DeviceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 푸시 알림 발송 큐.
+ *
+ * 요청 스레드는 큐에 넣기만 하고, 주기적으로 큐를 비우면서 같은 사용자에게 중복된 알림은 하나로 합친 뒤
+ * 내용이 같은 알림끼리 대상 사용자의 토큰을 모아 sendEachForMulticast 로 최대 500개씩 발송합니다.
+ * 발송은 고정 크기 풀에서 처리하고, UNREGISTERED 로 응답한 토큰의 기기는 삭제합니다.
+ * 큐는 노드 메모리에 있으므로 노드가 죽으면 발송 전 알림은 유실됩니다.
+ */
+@Component
+@Slf4j
+public class PushDispatcher {
+
+    // FCM 멀티캐스트 한 번에 보낼 수 있는 최대 토큰 수
+    public static final int MAX_MULTICAST_TOKENS = 500;
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final DeviceRepository deviceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final int batchSize;
+    private final int concurrency;
+    private final int queueCapacity;
+
+    private final ConcurrentLinkedQueue<QueuedPush> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ExecutorService executor;
+
+    private final Timer queueWaitTimer;
+    private final Timer batchTimer;
+    private final DistributionSummary batchSizeSummary;
+
+    private record QueuedPush(String userId, PushMessage message, long enqueuedAt) {}
+
+    public PushDispatcher(
+        FirebaseMessaging firebaseMessaging,
+        DeviceRepository deviceRepository,
+        PlatformTransactionManager transactionManager,
+        MeterRegistry meterRegistry,
+        @Value("${fcm.batchSize:500}") int batchSize,
+        @Value("${fcm.concurrency:4}") int concurrency,
+        @Value("${fcm.queueCapacity:10000}") int queueCapacity
+    ) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.deviceRepository = deviceRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.min(batchSize, MAX_MULTICAST_TOKENS);
+        this.concurrency = concurrency;
+        this.queueCapacity = queueCapacity;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "fcm-push-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("fcm.push.queue.size", queueSize, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("fcm.push.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("fcm.push.queue.wait")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("fcm.push.batch")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("fcm.push.batch.size")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 알림을 큐에 넣습니다. 트랜잭션 밖에서는 바로 넣습니다.
+     */
+    public void enqueue(String userId, PushMessage message) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(userId, message);
+                }
+            });
+        } else {
+            offer(userId, message);
+        }
+    }
+
+    private void offer(String userId, PushMessage message) {
+        if (queueSize.incrementAndGet() > queueCapacity) {
+            queueSize.decrementAndGet();
+            meterRegistry.counter("fcm.push.sent", "result", "dropped").increment();
+            log.warn("Push queue is full, dropping notification for user: {}", userId);
+            return;
+        }
+        queue.offer(new QueuedPush(userId, message, System.nanoTime()));
+    }
+
+    @Scheduled(fixedDelayString = "${fcm.flushIntervalMs:500}")
+    public void flush() {
+        // 발송 중인 배치가 많으면 큐에 남겨 두고 다음 주기에 처리
+        if (inFlight.get() >= concurrency) {
+            return;
+        }
+
+        List<QueuedPush> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 같은 내용끼리 대상 사용자를 모음 (같은 사용자에게 같은 알림이 여러 번 쌓였으면 한 번만 발송)
+        long now = System.nanoTime();
+        Map<PushMessage, Set<String>> recipients = new LinkedHashMap<>();
+        for (QueuedPush push : drained) {
+            queueWaitTimer.record(now - push.enqueuedAt(), TimeUnit.NANOSECONDS);
+            recipients.computeIfAbsent(push.message(), key -> new LinkedHashSet<>()).add(push.userId());
+        }
+
+        for (Map.Entry<PushMessage, Set<String>> entry : recipients.entrySet()) {
+            List<String> tokens;
+            try {
+                tokens = deviceRepository.findFcmTokensByUserIdIn(entry.getValue());
+            } catch (Exception e) {
+                log.error("Failed to load device tokens for push. users: {}", entry.getValue().size(), e);
+                continue;
+            }
+            if (tokens.isEmpty()) {
+                log.debug("No devices found for push recipients: {}", entry.getValue());
+                continue;
+            }
+
+            for (int from = 0; from < tokens.size(); from += batchSize) {
+                List<String> batch = List.copyOf(tokens.subList(from, Math.min(from + batchSize, tokens.size())));
+                inFlight.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        send(entry.getKey(), batch);
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+                });
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flush();
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private List<QueuedPush> drain() {
+        List<QueuedPush> drained = new ArrayList<>();
+        QueuedPush push;
+        while ((push = queue.poll()) != null) {
+            queueSize.decrementAndGet();
+            drained.add(push);
+        }
+        return drained;
+    }
+
+    private void send(PushMessage message, List<String> tokens) {
+        batchSizeSummary.record(tokens.size());
+        BatchResponse response;
+        try {
+            response = batchTimer.recordCallable(() -> firebaseMessaging.sendEachForMulticast(toMulticast(message, tokens)));
+        } catch (Exception e) {
+            meterRegistry.counter("fcm.push.sent", "result", "failure").increment(tokens.size());
+            log.error("Failed to send push batch. tokens: {}", tokens.size(), e);
+            return;
+        }
+
+        List<String> unregistered = new ArrayList<>();
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            FirebaseMessagingException exception = responses.get(i).getException();
+            if (exception != null && exception.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
+                unregistered.add(tokens.get(i));
+            }
+        }
+
+        meterRegistry.counter("fcm.push.sent", "result", "success").increment(response.getSuccessCount());
+        meterRegistry.counter("fcm.push.sent", "result", "failure").increment(response.getFailureCount());
+        log.info("Push batch sent - Success: {}, Failed: {}, Unregistered: {}",
+                response.getSuccessCount(), response.getFailureCount(), unregistered.size());
+
+        if (!unregistered.isEmpty()) {
+            prune(unregistered);
+        }
+    }
+
+    private void prune(List<String> tokens) {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> deviceRepository.deleteAllByFcmTokenIn(tokens));
+            meterRegistry.counter("fcm.push.pruned").increment(deleted == null ? 0 : deleted);
+            log.info("Pruned {} devices with unregistered FCM tokens", deleted);
+        } catch (Exception e) {
+            log.error("Failed to prune unregistered FCM tokens: {}", tokens.size(), e);
+        }
+    }
+
+    private MulticastMessage toMulticast(PushMessage message, List<String> tokens) {
+        return MulticastMessage.builder()
+            .addAllTokens(tokens)
+            .setNotification(Notification.builder()
+                .setTitle(message.title())
+                .setBody(message.body())
+                .build())
+            .putAllData(message.data())
+            .putData("createdAt", Instant.now().toString())
+            .setAndroidConfig(AndroidConfig.builder()
+                .setPriority(AndroidConfig.Priority.HIGH)
+                .setNotification(AndroidNotification.builder()
+                    .setChannelId(message.channelId())
+                    .setPriority(AndroidNotification.Priority.HIGH)
+                    .build())
+                .build())
+            .setApnsConfig(ApnsConfig.builder()
+                .setAps(Aps.builder()
+                    .setAlert(ApsAlert.builder()
+                        .setTitle(message.title())
+                        .setBody(message.body())
+                        .build())
+                    .setSound("default")
+                    .build())
+                .build())
+            .build();
+    }
+}
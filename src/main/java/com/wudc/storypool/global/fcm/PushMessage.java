@@ -0,0 +1,17 @@
+package com.wudc.storypool.global.fcm;
+
+import java.util.Map;
+
+/**
+ * 사용자에게 보낼 푸시 알림 내용. 같은 내용은 여러 사용자의 토큰을 모아 한 번에 발송합니다.
+ */
+public record PushMessage(
+    String title,
+    String body,
+    String channelId,
+    Map<String, String> data
+) {
+    public PushMessage {
+        data = Map.copyOf(data);
+    }
+}
@@ -1,41 +1,80 @@
 package com.wudc.storypool.global.health;
 
-import lombok.RequiredArgsConstructor;
+import com.wudc.storypool.global.config.LlmConfig;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * LLM 서버 상태 확인. 실제 호출용 커넥션 풀을 점유하지 않도록 짧은 타임아웃의 별도 클라이언트를 쓰고,
+ * 헬스 체크가 자주 호출되어도 LLM 서버에 부하가 가지 않도록 결과를 잠시 재사용합니다.
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class LlmServerHealthIndicator implements HealthIndicator {
 
-    private final RestTemplate restTemplate;
+    private final LlmConfig llmConfig;
+    private final HttpClient httpClient;
+
+    private volatile CachedHealth cached;
+
+    private record CachedHealth(Health health, long checkedAt) {}
+
+    public LlmServerHealthIndicator(LlmConfig llmConfig) {
+        this.llmConfig = llmConfig;
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(llmConfig.getHealth().getTimeout()))
+            .build();
+    }
 
     @Override
     public Health health() {
+        CachedHealth current = cached;
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.checkedAt() < llmConfig.getHealth().getCacheTtlMs()) {
+            return current.health();
+        }
+
+        Health health = check();
+        cached = new CachedHealth(health, now);
+        return health;
+    }
+
+    private Health check() {
+        String llmHealthUrl = llmConfig.getHealthUrl();
         try {
-            String llmHealthUrl = "http://localhost:8080/health"; // LLM 서버의 헬스체크 URL
-            
-            ResponseEntity<String> response = restTemplate.getForEntity(llmHealthUrl, String.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(llmHealthUrl))
+                .timeout(Duration.ofMillis(llmConfig.getHealth().getTimeout()))
+                .GET()
+                .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+
+            if (response.statusCode() == 200) {
                 return Health.up()
                     .withDetail("llm-server", "Available")
-                    .withDetail("status", response.getStatusCode())
+                    .withDetail("status", response.statusCode())
                     .withDetail("url", llmHealthUrl)
                     .build();
             } else {
                 return Health.down()
                     .withDetail("llm-server", "Unavailable")
-                    .withDetail("status", response.getStatusCode())
+                    .withDetail("status", response.statusCode())
                     .withDetail("url", llmHealthUrl)
                     .build();
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Health.down()
+                .withDetail("llm-server", "Connection failed")
+                .withDetail("error", "interrupted")
+                .build();
         } catch (Exception e) {
             log.warn("LLM server health check failed: {}", e.getMessage());
             return Health.down()
@@ -44,4 +83,4 @@ public class LlmServerHealthIndicator implements HealthIndicator {
                 .build();
         }
     }
-}
\ No newline at end of file
+}
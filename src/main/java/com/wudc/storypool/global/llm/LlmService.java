@@ -59,7 +59,7 @@ public class LlmService {
         } catch (Exception e) {
             log.error("Unexpected error occurred while sending fairytale generation request: fairytaleId={}", 
                     fairytaleId, e);
-            throw new BaseException(ErrorCode.CANT_SEND_EMAIL); // 적절한 에러코드로 변경 필요
+            throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
         }
     }
     
@@ -71,12 +71,12 @@ public class LlmService {
             } else {
                 log.error("LLM server returned success=false: fairytaleId={}, response={}", 
                         fairytaleId, apiResponse);
-                throw new BaseException(ErrorCode.CANT_SEND_EMAIL);
+                throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
             }
         } else {
             log.error("Failed to send fairytale generation request: fairytaleId={}, status={}", 
                     fairytaleId, response.getStatusCode());
-            throw new BaseException(ErrorCode.CANT_SEND_EMAIL);
+            throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
         }
     }
     
@@ -97,12 +97,12 @@ public class LlmService {
                 log.error("Client error from LLM server: fairytaleId={}, status={}, message={}", 
                         fairytaleId, status, e.getMessage());
         }
-        throw new BaseException(ErrorCode.CANT_SEND_EMAIL);
+        throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
     }
     
     private void handleHttpServerError(String fairytaleId, HttpServerErrorException e) {
         log.error("Server error from LLM server: fairytaleId={}, status={}, message={}", 
                 fairytaleId, e.getStatusCode(), e.getMessage());
-        throw new BaseException(ErrorCode.CANT_SEND_EMAIL);
+        throw new BaseException(ErrorCode.CANT_CONNECT_LLM);
     }
 }
\ No newline at end of file
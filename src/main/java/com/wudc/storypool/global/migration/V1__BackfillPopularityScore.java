@@ -0,0 +1,50 @@
+package com.wudc.storypool.global.migration;
+
+import com.wudc.storypool.domain.post.entity.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * popularity_score 컬럼이 추가되기 전에 만들어진 게시글의 점수를 채웁니다.
+ * id 범위 단위로 나눠 묶음마다 커밋하므로 큰 테이블에서도 행 잠금을 오래 잡지 않습니다.
+ */
+@Component
+@Slf4j
+public class V1__BackfillPopularityScore extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        String fromId = "";
+        long updated = 0;
+
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE id > ? ORDER BY id LIMIT ?", String.class, fromId, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            String toId = ids.get(ids.size() - 1);
+            updated += jdbcTemplate.update(
+                "UPDATE post SET popularity_score = " + Post.POPULARITY_SCORE_SQL +
+                " WHERE id > ? AND id <= ? AND popularity_score <> " + Post.POPULARITY_SCORE_SQL,
+                fromId, toId);
+            fromId = toId;
+        }
+        log.info("Backfilled popularity score for {} post(s)", updated);
+    }
+}
@@ -0,0 +1,67 @@
+package com.wudc.storypool.global.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 게시글 전문 검색 인덱스를 준비합니다.
+ * 태그 문자열이 비어 있는 기존 게시글을 id 범위 단위로 백필한 뒤, JPA 로 선언할 수 없는 FULLTEXT 인덱스를 만듭니다.
+ * 이전에 기동 시점 초기화로 인덱스가 이미 만들어진 DB 도 있으므로 없을 때만 생성합니다.
+ */
+@Component
+@Slf4j
+public class V2__CreatePostSearchIndex extends BaseJavaMigration {
+
+    private static final String INDEX_NAME = "ft_post_search";
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        backfillTagText(jdbcTemplate);
+
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'post' AND INDEX_NAME = ?",
+            Integer.class, INDEX_NAME);
+
+        if (exists == null || exists == 0) {
+            log.info("Creating FULLTEXT index {} on post", INDEX_NAME);
+            jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX " + INDEX_NAME +
+                " (title, content, tag_text) WITH PARSER ngram");
+        }
+    }
+
+    private void backfillTagText(JdbcTemplate jdbcTemplate) {
+        String fromId = "";
+        long backfilled = 0;
+
+        while (true) {
+            List<String> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM post WHERE id > ? ORDER BY id LIMIT ?", String.class, fromId, BATCH_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            String toId = ids.get(ids.size() - 1);
+            backfilled += jdbcTemplate.update(
+                "UPDATE post p SET p.tag_text = COALESCE(" +
+                "(SELECT GROUP_CONCAT(t.tag SEPARATOR ' ') FROM post_tags t WHERE t.post_id = p.id), '') " +
+                "WHERE p.id > ? AND p.id <= ? AND p.tag_text IS NULL",
+                fromId, toId);
+            fromId = toId;
+        }
+        log.info("Backfilled tag text for {} post(s)", backfilled);
+    }
+}
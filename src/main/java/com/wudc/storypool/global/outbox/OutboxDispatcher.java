@@ -0,0 +1,177 @@
+package com.wudc.storypool.global.outbox;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 이벤트를 주기적으로 가져와 요청 스레드와 분리된 고정 크기 풀에서 발송합니다.
+ *
+ * 가져올 때 FOR UPDATE SKIP LOCKED 로 잠그고 다음 시도 시각을 lease 만큼 미루므로 여러 노드가 같은 이벤트를
+ * 동시에 발송하지 않고, 발송 도중 노드가 죽으면 lease 이후 다른 노드가 이어받습니다.
+ * 실패하면 지수 백오프로 재시도하고, 최대 횟수를 넘기면 DEAD 로 남겨 둡니다.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxEventType, OutboxHandler> handlers = new EnumMap<>(OutboxEventType.class);
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final Semaphore permits;
+    private final ExecutorService executor;
+
+    public OutboxDispatcher(
+        OutboxEventRepository outboxEventRepository,
+        PlatformTransactionManager transactionManager,
+        List<OutboxHandler> handlers,
+        MeterRegistry meterRegistry,
+        @Value("${outbox.concurrency:8}") int concurrency,
+        @Value("${outbox.maxAttempts:8}") int maxAttempts,
+        @Value("${outbox.initialBackoffMs:1000}") long initialBackoffMs,
+        @Value("${outbox.maxBackoffMs:300000}") long maxBackoffMs,
+        @Value("${outbox.leaseMs:120000}") long leaseMs
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.lease = Duration.ofMillis(leaseMs);
+
+        this.permits = new Semaphore(concurrency);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("outbox.in_flight", () -> concurrency - permits.availablePermits())
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.pollIntervalMs:1000}")
+    public void dispatch() {
+        int available = permits.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<OutboxEvent> claimed;
+        try {
+            claimed = transactionTemplate.execute(status -> claim(available));
+        } catch (Exception e) {
+            log.error("Failed to claim outbox events", e);
+            return;
+        }
+
+        for (OutboxEvent event : claimed) {
+            // 이 스레드만 permit 을 가져가므로 claim 한 개수만큼은 항상 바로 얻음
+            permits.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    process(event);
+                } finally {
+                    permits.release();
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        // 발송 중인 이벤트는 lease 가 지나면 다른 노드가 다시 발송
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private List<OutboxEvent> claim(int limit) {
+        Instant now = Instant.now();
+        List<OutboxEvent> events = outboxEventRepository.findDueForUpdate(now, limit);
+        events.forEach(event -> event.lease(now.plus(lease)));
+        return events;
+    }
+
+    private void process(OutboxEvent event) {
+        OutboxHandler handler = handlers.get(event.getType());
+        if (handler == null) {
+            log.error("No outbox handler for type: {} eventId: {}", event.getType(), event.getId());
+            deadLetter(event, null, "No handler");
+            return;
+        }
+
+        try {
+            handler.handle(event);
+            outboxEventRepository.deleteById(event.getId());
+            meterRegistry.counter("outbox.dispatch", "type", event.getType().name(), "result", "success").increment();
+        } catch (Exception e) {
+            String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                deadLetter(event, handler, error);
+                return;
+            }
+
+            Duration backoff = backoff(event.getAttempts() + 1);
+            event.retryAt(Instant.now().plus(backoff), error);
+            outboxEventRepository.save(event);
+            meterRegistry.counter("outbox.dispatch", "type", event.getType().name(), "result", "retry").increment();
+            log.warn("Outbox dispatch failed, retrying in {}ms. type: {} aggregateId: {} attempts: {} error: {}",
+                    backoff.toMillis(), event.getType(), event.getAggregateId(), event.getAttempts(), error);
+        }
+    }
+
+    private void deadLetter(OutboxEvent event, OutboxHandler handler, String error) {
+        event.markDead(error);
+        outboxEventRepository.save(event);
+        meterRegistry.counter("outbox.dispatch", "type", event.getType().name(), "result", "dead").increment();
+        log.error("Outbox event moved to dead letter. type: {} aggregateId: {} attempts: {} error: {}",
+                event.getType(), event.getAggregateId(), event.getAttempts(), error);
+
+        if (handler != null) {
+            try {
+                handler.onDeadLetter(event);
+            } catch (Exception e) {
+                log.error("Outbox dead letter handler failed. type: {} aggregateId: {}",
+                        event.getType(), event.getAggregateId(), e);
+            }
+        }
+    }
+
+    /**
+     * initialBackoff * 2^(attempts-1), 최대 maxBackoff. 동시에 실패한 이벤트가 한꺼번에 재시도하지 않도록 최대 20% 지연을 더합니다.
+     */
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 30);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+}
@@ -0,0 +1,83 @@
+package com.wudc.storypool.global.outbox;
+
+import com.wudc.storypool.common.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 트랜잭션 아웃박스. 외부 호출을 업무 데이터와 같은 트랜잭션에 기록해 두고 OutboxDispatcher 가 커밋 이후 발송합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "outbox_event",
+    indexes = @Index(name = "idx_outbox_event_status_next_attempt_at", columnList = "status, nextAttemptAt")
+)
+public class OutboxEvent extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private OutboxEventType type;
+
+    @Column(nullable = false)
+    private String aggregateId;
+
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    public static OutboxEvent create(OutboxEventType type, String aggregateId, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.type = type;
+        event.aggregateId = aggregateId;
+        event.payload = payload;
+        event.nextAttemptAt = Instant.now();
+        return event;
+    }
+
+    /**
+     * 발송을 맡은 노드가 끝내지 못하고 죽어도 lease 이후 다시 발송되도록 다음 시도 시각을 미룹니다.
+     */
+    public void lease(Instant until) {
+        this.nextAttemptAt = until;
+    }
+
+    public void retryAt(Instant nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    public void markDead(String error) {
+        this.attempts++;
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
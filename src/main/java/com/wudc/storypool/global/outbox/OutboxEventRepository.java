@@ -0,0 +1,18 @@
+package com.wudc.storypool.global.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, String> {
+
+    // 발송 시각이 된 이벤트를 잠그고 조회 (다른 노드가 잠근 행은 건너뜀)
+    @Query(value = "SELECT * FROM outbox_event WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> findDueForUpdate(@Param("now") Instant now, @Param("limit") int limit);
+}
@@ -0,0 +1,5 @@
+package com.wudc.storypool.global.outbox;
+
+public enum OutboxEventType {
+    FAIRYTALE_GENERATION    // LLM 서버에 동화 생성 요청
+}
@@ -0,0 +1,17 @@
+package com.wudc.storypool.global.outbox;
+
+/**
+ * 아웃박스 이벤트 유형별 발송 처리기. 예외를 던지면 백오프 후 재시도합니다.
+ */
+public interface OutboxHandler {
+
+    OutboxEventType type();
+
+    void handle(OutboxEvent event) throws Exception;
+
+    /**
+     * 최대 재시도를 초과해 더 이상 발송하지 않을 때 호출됩니다.
+     */
+    default void onDeadLetter(OutboxEvent event) {
+    }
+}
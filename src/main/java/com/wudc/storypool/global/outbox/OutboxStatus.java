@@ -0,0 +1,6 @@
+package com.wudc.storypool.global.outbox;
+
+public enum OutboxStatus {
+    PENDING,    // 발송 대기 (재시도 포함)
+    DEAD        // 최대 재시도 초과
+}
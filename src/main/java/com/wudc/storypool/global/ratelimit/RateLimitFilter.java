@@ -0,0 +1,127 @@
+package com.wudc.storypool.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.wudc.storypool.common.base.BaseErrorResponse;
+import com.wudc.storypool.common.exception.ErrorCode;
+import com.wudc.storypool.global.security.principal.PrincipalDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 비용이 큰 요청을 토큰 버킷으로 제한합니다. JwtAuthFilter 뒤에서 실행되어 로그인한 사용자는 사용자별로,
+ * 그 외에는 IP 별로 버킷을 나눕니다.
+ *
+ * 버킷은 Redis 에 있어 모든 인스턴스가 한도를 공유합니다. 한 번 거절된 키는 다음 토큰이 채워질 때까지
+ * 로컬 캐시에 기록해 두고 Redis 를 거치지 않고 바로 거절합니다. Redis 에 접근할 수 없으면 요청을 통과시킵니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final Duration MAX_LOCAL_BLOCK = Duration.ofMinutes(1);
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 거절된 키 -> 다시 시도할 수 있는 시각(epoch ms)
+    private final Cache<String, Long> blockedUntil;
+
+    public RateLimitFilter(RedisRateLimiter redisRateLimiter, RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+        this.blockedUntil = Caffeine.newBuilder()
+            .maximumSize(rateLimitProperties.getLocalCacheSize())
+            .expireAfterWrite(MAX_LOCAL_BLOCK)
+            .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimitProperties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitRoute route = RateLimitRoute.resolve(request);
+        RateLimitProperties.Bucket bucket = route != null ? rateLimitProperties.bucketOf(route) : null;
+        if (bucket == null || bucket.getCapacity() <= 0 || bucket.getRefillPerMinute() <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String userId = currentUserId();
+        String scope = userId != null ? "user" : "ip";
+        String key = KEY_PREFIX + route.name().toLowerCase() + ":" + scope + ":" + (userId != null ? userId : request.getRemoteAddr());
+
+        long now = System.currentTimeMillis();
+        Long localBlockedUntil = blockedUntil.getIfPresent(key);
+        if (localBlockedUntil != null && localBlockedUntil > now) {
+            record(route, scope, "rejected_local");
+            reject(response, localBlockedUntil - now);
+            return;
+        }
+
+        long retryAfterMs;
+        try {
+            retryAfterMs = redisRateLimiter.tryConsume(key, bucket.getCapacity(), bucket.getRefillPerMinute());
+        } catch (Exception e) {
+            log.warn("Rate limit check failed, allowing request. route: {} error: {}", route, e.getMessage());
+            record(route, scope, "error");
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (retryAfterMs > 0) {
+            blockedUntil.put(key, now + Math.min(retryAfterMs, MAX_LOCAL_BLOCK.toMillis()));
+            record(route, scope, "rejected");
+            log.warn("Rate limit exceeded. route: {} key: {}", route, key);
+            reject(response, retryAfterMs);
+            return;
+        }
+
+        record(route, scope, "allowed");
+        filterChain.doFilter(request, response);
+    }
+
+    private String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof PrincipalDetails principalDetails) {
+            return principalDetails.getUserId();
+        }
+        return null;
+    }
+
+    private void record(RateLimitRoute route, String scope, String result) {
+        meterRegistry.counter("ratelimit.requests", "route", route.name(), "scope", scope, "result", result).increment();
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMs) throws IOException {
+        ErrorCode errorCode = ErrorCode.TOO_MANY_REQUESTS;
+        response.setStatus(errorCode.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, (retryAfterMs + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write(objectMapper.writeValueAsString(new BaseErrorResponse(errorCode.getMessage())));
+    }
+}
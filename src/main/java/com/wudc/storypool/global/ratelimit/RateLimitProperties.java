@@ -0,0 +1,35 @@
+package com.wudc.storypool.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Component
+@Getter @Setter
+@ConfigurationProperties(prefix = "ratelimit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int localCacheSize = 100_000;
+    private Map<RateLimitRoute, Bucket> routes = new EnumMap<>(RateLimitRoute.class);
+
+    /**
+     * 토큰 버킷. capacity 만큼 연속 요청을 허용하고 분당 refillPerMinute 개씩 다시 채웁니다.
+     * 로그인한 사용자는 사용자별, 그 외에는 IP 별로 버킷을 둡니다.
+     */
+    @Getter @Setter
+    public static class Bucket {
+        private int capacity;
+        private double refillPerMinute;
+    }
+
+    /**
+     * 설정이 없는 분류는 제한하지 않습니다.
+     */
+    public Bucket bucketOf(RateLimitRoute route) {
+        return routes.get(route);
+    }
+}
@@ -0,0 +1,38 @@
+package com.wudc.storypool.global.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.StringUtils;
+
+import java.util.function.Predicate;
+
+/**
+ * 횟수를 제한하는 요청 분류. 비용이 큰 요청(LLM 호출, S3 서명, 전문 검색, 인증)만 대상으로 하며,
+ * 그 외 요청은 Redis 를 거치지 않습니다.
+ */
+public enum RateLimitRoute {
+
+    FAIRYTALE_GENERATION(request -> "POST".equals(request.getMethod())
+        && request.getRequestURI().startsWith("/api/fairytales/generate")),
+    PRESIGNED_URL(request -> "POST".equals(request.getMethod())
+        && request.getRequestURI().equals("/api/upload/presigned-url")),
+    POST_SEARCH(request -> "GET".equals(request.getMethod())
+        && request.getRequestURI().equals("/api/posts")
+        && StringUtils.hasText(request.getParameter("keyword"))),
+    AUTH(request -> "POST".equals(request.getMethod())
+        && request.getRequestURI().startsWith("/api/auth/"));
+
+    private final Predicate<HttpServletRequest> matcher;
+
+    RateLimitRoute(Predicate<HttpServletRequest> matcher) {
+        this.matcher = matcher;
+    }
+
+    public static RateLimitRoute resolve(HttpServletRequest request) {
+        for (RateLimitRoute route : values()) {
+            if (route.matcher.test(request)) {
+                return route;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,122 @@
+package com.wudc.storypool.global.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis Lua 스크립트로 구현한 횟수 제한 도구. 확인과 증가를 한 번의 호출에서 원자적으로 처리하므로
+ * 동시 요청이 몰려도 한도를 넘겨 통과하지 않고, GET + SET 두 번 왕복하던 것을 한 번으로 줄입니다.
+ *
+ * 스크립트는 EVALSHA 로 호출되며, 첫 호출의 NOSCRIPT 재시도를 피하도록 기동 시 미리 SCRIPT LOAD 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RedisRateLimiter {
+
+    // 증가시키고 만료 시간을 다시 설정. 증가 후 값을 반환
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+        "local value = redis.call('INCR', KEYS[1]) " +
+        "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+        "return value",
+        Long.class);
+
+    // 슬라이딩 윈도: 윈도 밖 기록을 지우고 남은 기록이 limit 미만일 때만 기록을 추가. 허용되면 1, 아니면 0
+    // 시각은 Redis 서버 시간을 써서 노드 간 시계 차이의 영향을 받지 않음
+    private static final RedisScript<Long> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('TYPE', KEYS[1]).ok == 'string' then redis.call('DEL', KEYS[1]) end " +
+        "local time = redis.call('TIME') " +
+        "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+        "local window = tonumber(ARGV[2]) " +
+        "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now - window) " +
+        "if redis.call('ZCARD', KEYS[1]) >= tonumber(ARGV[1]) then return 0 end " +
+        "redis.call('ZADD', KEYS[1], now, now .. ':' .. ARGV[3]) " +
+        "redis.call('PEXPIRE', KEYS[1], window) " +
+        "return 1",
+        Long.class);
+
+    // 토큰 버킷: 지난 호출 이후 경과 시간만큼 채우고 1개를 꺼냄. {허용 여부, 다음 토큰까지 남은 ms} 를 반환
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+        "local capacity = tonumber(ARGV[1]) " +
+        "local rate = tonumber(ARGV[2]) " +
+        "local time = redis.call('TIME') " +
+        "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+        "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+        "local tokens = tonumber(bucket[1]) " +
+        "local ts = tonumber(bucket[2]) " +
+        "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+        "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) " +
+        "local allowed = 0 " +
+        "local wait = 0 " +
+        "if tokens >= 1 then tokens = tokens - 1 allowed = 1 else wait = math.ceil((1 - tokens) / rate) end " +
+        "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+        "redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate)) " +
+        "return {allowed, wait}",
+        List.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadScripts() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RedisScript<?> script : List.<RedisScript<?>>of(INCREMENT_SCRIPT, SLIDING_WINDOW_SCRIPT, TOKEN_BUCKET_SCRIPT)) {
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 미리 올리지 못해도 첫 호출에서 EVAL 로 대체되어 올라감
+            log.warn("Failed to preload rate limit scripts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터를 1 증가시키고 만료 시간을 ttl 로 다시 설정합니다.
+     *
+     * @return 증가 후 값
+     */
+    public long increment(String key, Duration ttl) {
+        Long value = stringRedisTemplate.execute(INCREMENT_SCRIPT, List.of(key), Long.toString(ttl.toMillis()));
+        return value != null ? value : 0;
+    }
+
+    /**
+     * 최근 window 동안 허용된 횟수가 limit 미만이면 한 번을 기록하고 true 를 반환합니다.
+     */
+    public boolean tryAcquire(String key, int limit, Duration window) {
+        Long allowed = stringRedisTemplate.execute(SLIDING_WINDOW_SCRIPT, List.of(key),
+                Integer.toString(limit), Long.toString(window.toMillis()), UUID.randomUUID().toString());
+        return allowed != null && allowed == 1;
+    }
+
+    /**
+     * 토큰 버킷에서 1개를 꺼냅니다.
+     *
+     * @return 허용되면 0, 아니면 다음 토큰이 채워질 때까지 남은 시간(ms)
+     */
+    public long tryConsume(String key, int capacity, double refillPerMinute) {
+        List<?> result = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                Integer.toString(capacity), Double.toString(refillPerMinute / 60_000));
+        if (result == null || ((Number) result.get(0)).longValue() == 1) {
+            return 0;
+        }
+        return Math.max(1, ((Number) result.get(1)).longValue());
+    }
+
+    public void reset(String key) {
+        stringRedisTemplate.unlink(key);
+    }
+}
@@ -0,0 +1,59 @@
+package com.wudc.storypool.global.redis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 기본(JDK 직렬화) RedisTemplate 으로 저장했던 문자열 키/값 형식을 다룹니다.
+ * 형식은 스트림 헤더(AC ED 00 05) + TC_STRING(74) + writeUTF 이며, 임의 객체를 역직렬화하지 않도록
+ * ObjectInputStream 대신 이 형식만 직접 해석합니다.
+ */
+public final class JdkSerializedString {
+
+    private static final byte[] HEADER = {(byte) 0xAC, (byte) 0xED, 0x00, 0x05, 0x74};
+
+    private JdkSerializedString() {
+    }
+
+    /**
+     * 이 형식으로 저장된 모든 키에 맞는 SCAN MATCH 패턴
+     */
+    public static byte[] scanPattern() {
+        byte[] pattern = Arrays.copyOf(HEADER, HEADER.length + 1);
+        pattern[HEADER.length] = '*';
+        return pattern;
+    }
+
+    public static byte[] encode(String value) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(HEADER.length + 2 + value.length());
+            DataOutputStream output = new DataOutputStream(bytes);
+            output.write(HEADER);
+            output.writeUTF(value);
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Value is too long to encode: " + value.length(), e);
+        }
+    }
+
+    /**
+     * @return 이 형식이 아니면 null
+     */
+    public static String decode(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER.length + 2
+                || !Arrays.equals(bytes, 0, HEADER.length, HEADER, 0, HEADER.length)) {
+            return null;
+        }
+        try {
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes, HEADER.length, bytes.length - HEADER.length));
+            String value = input.readUTF();
+            return input.available() == 0 ? value : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.wudc.storypool.global.redis;
+
+import com.wudc.storypool.domain.user.service.TokenStorageService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 기본(JDK 직렬화) RedisTemplate 으로 저장했던 키를 StringRedisTemplate 형식으로 옮깁니다.
+ *
+ * 기동 시 SCAN 으로 이전 형식 키만 골라 남은 TTL 을 유지한 채 새 키로 복사하고 이전 키를 지웁니다.
+ * 액세스/리프레시 토큰은 해시 키와 사용자별 색인으로 옮깁니다. 새 키가 이미 있으면 덮어쓰지 않습니다.
+ * 배포 중 이전 버전 노드가 계속 쓰는 토큰은 TokenStorageService 가 조회 시점에 옮기고, 인증 코드 등
+ * 나머지 키는 수 분 안에 만료되므로 한 번만 훑습니다. 모든 노드가 교체된 뒤에는 꺼도 됩니다.
+ */
+@Component
+@Slf4j
+public class LegacyRedisKeyMigration {
+
+    private static final String LOCK_KEY = "redis:legacy-migration:lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final String ACCESS_TOKEN_PREFIX = "access_token:";
+    private static final String REFRESH_TOKEN_PREFIX = "refresh_token:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TokenStorageService tokenStorageService;
+    private final boolean enabled;
+    private final int scanCount;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public LegacyRedisKeyMigration(
+        StringRedisTemplate stringRedisTemplate,
+        TokenStorageService tokenStorageService,
+        @Value("${redis.legacyMigration.enabled:true}") boolean enabled,
+        @Value("${redis.legacyMigration.scanCount:1000}") int scanCount
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenStorageService = tokenStorageService;
+        this.enabled = enabled;
+        this.scanCount = scanCount;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, nodeId, LOCK_TIMEOUT);
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Skipping legacy Redis key migration: {}", e.getMessage());
+            return;
+        }
+
+        int migrated = 0;
+        int failed = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(JdkSerializedString.scanPattern()).count(scanCount).build();
+        try (Cursor<byte[]> cursor = stringRedisTemplate.executeWithStickyConnection(
+                connection -> connection.keyCommands().scan(options))) {
+            // SCAN 도중 키를 지워도 처음부터 있던 키는 모두 한 번 이상 반환됨
+            while (cursor != null && cursor.hasNext()) {
+                if (migrateKey(cursor.next())) {
+                    migrated++;
+                } else {
+                    failed++;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Legacy Redis key migration failed", e);
+        } finally {
+            if (nodeId.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+
+        if (migrated > 0 || failed > 0) {
+            log.info("Legacy Redis key migration finished. migrated: {} failed: {}", migrated, failed);
+        }
+    }
+
+    private boolean migrateKey(byte[] rawKey) {
+        String key = JdkSerializedString.decode(rawKey);
+        if (key == null) {
+            return false;
+        }
+
+        try {
+            Long remainingMillis = stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().pTtl(rawKey));
+            if (remainingMillis == null || remainingMillis == -2) {
+                // 그 사이 만료됨
+                return true;
+            }
+            String value = JdkSerializedString.decode(
+                stringRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey)));
+            if (value == null) {
+                log.warn("Skipping legacy Redis key with unexpected value format: {}", key);
+                return false;
+            }
+
+            Duration remaining = remainingMillis > 0 ? Duration.ofMillis(remainingMillis) : null;
+            if (key.startsWith(ACCESS_TOKEN_PREFIX) || key.startsWith(REFRESH_TOKEN_PREFIX)) {
+                tokenStorageService.migrateLegacyToken(key, value, remaining);
+                return true;
+            }
+
+            if (remaining != null) {
+                stringRedisTemplate.opsForValue().setIfAbsent(key, value, remaining);
+            } else {
+                stringRedisTemplate.opsForValue().setIfAbsent(key, value);
+            }
+            stringRedisTemplate.execute((RedisCallback<Long>) connection -> connection.keyCommands().unlink(rawKey));
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to migrate legacy Redis key: {} error: {}", key, e.getMessage());
+            return false;
+        }
+    }
+}
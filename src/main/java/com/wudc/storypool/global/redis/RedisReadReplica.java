@@ -0,0 +1,190 @@
+package com.wudc.storypool.global.redis;
+
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.ArrayOutput;
+import io.lettuce.core.output.IntegerOutput;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClusterConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본에서 읽어도 되는 조회(토큰 확인 등)용 템플릿을 제공합니다.
+ *
+ * 센티넬/클러스터 구성이면 기본 연결과 같은 설정에 ReadFrom(기본 REPLICA_PREFERRED)만 바꾼 별도 연결을 만들고,
+ * 단일 노드 구성에서는 기본 StringRedisTemplate 을 그대로 돌려줍니다.
+ * 복제 지연이 있으므로 방금 쓴 값이 없을 수 있습니다. 없으면 기본 연결에서 다시 확인해야 합니다.
+ * 연결 팩토리를 빈으로 등록하면 Boot 의 기본 연결 팩토리가 만들어지지 않으므로 이 안에서만 관리합니다.
+ *
+ * 복제본에 남아 있으면 안 되는 삭제(토큰 폐기 등)는 awaitReplication 으로 복제본이 따라잡을 때까지 기다립니다.
+ * WAIT 는 응답할 때까지 그 연결의 다음 명령을 막으므로, 공유 연결 대신 호출마다 전용 연결을 열어 보냅니다.
+ */
+@Component
+@Slf4j
+public class RedisReadReplica implements DisposableBean {
+
+    private final LettuceConnectionFactory replicaConnectionFactory;
+    private final LettuceConnectionFactory waitConnectionFactory;
+    private final StringRedisTemplate template;
+    private final MeterRegistry meterRegistry;
+    private final long replicationWaitMs;
+
+    public RedisReadReplica(
+        LettuceConnectionFactory lettuceConnectionFactory,
+        StringRedisTemplate stringRedisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${redis.readFrom:replicaPreferred}") String readFrom,
+        @Value("${redis.replicationWaitMs:500}") long replicationWaitMs
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.replicationWaitMs = replicationWaitMs;
+        if (!lettuceConnectionFactory.isRedisSentinelAware() && !lettuceConnectionFactory.isClusterAware()) {
+            this.replicaConnectionFactory = null;
+            this.waitConnectionFactory = null;
+            this.template = stringRedisTemplate;
+            return;
+        }
+
+        this.replicaConnectionFactory = createConnectionFactory(lettuceConnectionFactory, ReadFrom.valueOf(readFrom), true);
+        this.waitConnectionFactory = createConnectionFactory(lettuceConnectionFactory, ReadFrom.UPSTREAM, false);
+        this.template = new StringRedisTemplate(replicaConnectionFactory);
+        log.info("Redis replica reads enabled. readFrom: {}", readFrom);
+    }
+
+    public StringRedisTemplate template() {
+        return template;
+    }
+
+    /**
+     * fenceKey 에 값을 쓰고 WAIT 로 그 기본 노드의 모든 복제본이 받을 때까지 기다립니다.
+     * 복제는 기본 노드별로 순서대로 전달되므로, 먼저 끝난 쓰기(같은 슬롯의 키)도 함께 복제되었음이 보장됩니다.
+     * fenceKey 는 기다릴 키와 같은 해시 태그를 써야 합니다(클러스터에서 같은 기본 노드).
+     * 복제본 읽기를 쓰지 않는 단일 노드 구성에서는 바로 반환합니다.
+     * 전용 연결을 새로 열므로 요청마다가 아니라 폐기처럼 드문 경우에만 호출해야 합니다.
+     *
+     * @return 모든 복제본이 시간 안에 받았으면 true
+     */
+    public boolean awaitReplication(String fenceKey) {
+        if (waitConnectionFactory == null) {
+            return true;
+        }
+
+        boolean replicated;
+        // 공유하지 않는 팩토리라 이 연결은 닫을 때까지 이 호출만 씀
+        try (RedisConnection connection = waitConnectionFactory.getConnection()) {
+            replicated = connection instanceof LettuceClusterConnection cluster
+                ? awaitClusterReplication(cluster, fenceKey)
+                : awaitReplication((LettuceConnection) connection, fenceKey);
+        } catch (Exception e) {
+            log.warn("Failed to wait for Redis replication of {}", fenceKey, e);
+            replicated = false;
+        }
+
+        meterRegistry.counter("redis.replication.wait", "result", replicated ? "replicated" : "timeout").increment();
+        if (!replicated) {
+            log.warn("Redis replicas did not acknowledge {} within {}ms", fenceKey, replicationWaitMs);
+        }
+        return replicated;
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaConnectionFactory != null) {
+            replicaConnectionFactory.destroy();
+            waitConnectionFactory.destroy();
+        }
+    }
+
+    private boolean awaitReplication(LettuceConnection connection, String fenceKey) {
+        // INFO 는 읽기 명령이라 복제본으로 가므로, 기본 노드로 가는 ROLE 의 세 번째 항목(연결된 복제본 목록)으로 셈
+        List<?> role = (List<?>) connection.execute("ROLE", new ArrayOutput<>(ByteArrayCodec.INSTANCE));
+        int replicas = role != null && role.size() > 2 && role.get(2) instanceof List<?> connected ? connected.size() : 0;
+        if (replicas == 0) {
+            return true;
+        }
+        // 전용 연결 하나로 보내므로 SET 과 WAIT 가 같은 연결에서 실행됨
+        connection.stringCommands().set(fenceKey.getBytes(StandardCharsets.UTF_8), fenceValue(),
+            Expiration.milliseconds(fenceTtlMs()), RedisStringCommands.SetOption.upsert());
+        Long acknowledged = (Long) connection.execute("WAIT", new IntegerOutput<>(ByteArrayCodec.INSTANCE),
+            Integer.toString(replicas).getBytes(StandardCharsets.UTF_8),
+            Long.toString(replicationWaitMs).getBytes(StandardCharsets.UTF_8));
+        return acknowledged != null && acknowledged >= replicas;
+    }
+
+    private boolean awaitClusterReplication(LettuceClusterConnection connection, String fenceKey) {
+        byte[] key = fenceKey.getBytes(StandardCharsets.UTF_8);
+        RedisClusterNode primary = connection.clusterGetNodeForKey(key);
+        long replicas = connection.clusterGetReplicas(primary).stream()
+            .filter(replica -> replica.getFlags() == null || !replica.getFlags().contains(RedisClusterNode.Flag.FAIL))
+            .count();
+        if (replicas == 0) {
+            return true;
+        }
+        // 클러스터 명령 실행기의 노드 연결은 팩토리 전체가 공유하므로, 이 연결이 가진 노드 연결로 보냄
+        RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands =
+            (RedisAdvancedClusterAsyncCommands<byte[], byte[]>) connection.getNativeConnection();
+        RedisClusterAsyncCommands<byte[], byte[]> node = commands.getConnection(primary.getId());
+        node.set(key, fenceValue(), SetArgs.Builder.px(fenceTtlMs()));
+        Long acknowledged = LettuceFutures.awaitOrCancel(
+            node.waitForReplication((int) replicas, replicationWaitMs), fenceTtlMs(), TimeUnit.MILLISECONDS);
+        return acknowledged != null && acknowledged >= replicas;
+    }
+
+    private long fenceTtlMs() {
+        return Math.max(replicationWaitMs * 10, 1000);
+    }
+
+    private static byte[] fenceValue() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static LettuceConnectionFactory createConnectionFactory(
+        LettuceConnectionFactory base, ReadFrom readFrom, boolean shareNativeConnection
+    ) {
+        LettuceClientConfiguration clientConfiguration = replicaClientConfiguration(base.getClientConfiguration(), readFrom);
+        LettuceConnectionFactory factory = base.isClusterAware()
+            ? new LettuceConnectionFactory(base.getClusterConfiguration(), clientConfiguration)
+            : new LettuceConnectionFactory(base.getSentinelConfiguration(), clientConfiguration);
+        factory.setShareNativeConnection(shareNativeConnection);
+        factory.afterPropertiesSet();
+        factory.start();
+        return factory;
+    }
+
+    private static LettuceClientConfiguration replicaClientConfiguration(LettuceClientConfiguration base, ReadFrom readFrom) {
+        LettuceClientConfiguration.LettuceClientConfigurationBuilder builder = LettuceClientConfiguration.builder()
+            .readFrom(readFrom)
+            .commandTimeout(base.getCommandTimeout())
+            .shutdownTimeout(base.getShutdownTimeout());
+        base.getClientOptions().ifPresent(builder::clientOptions);
+        base.getClientResources().ifPresent(builder::clientResources);
+        base.getClientName().ifPresent(builder::clientName);
+        if (base.isUseSsl()) {
+            LettuceClientConfiguration.LettuceSslClientConfigurationBuilder ssl = builder.useSsl().verifyPeer(base.getVerifyMode());
+            if (base.isStartTls()) {
+                ssl.startTls();
+            }
+        }
+        return builder.build();
+    }
+}
@@ -1,12 +1,14 @@
 package com.wudc.storypool.global.security;
 
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+import com.wudc.storypool.global.ratelimit.RateLimitFilter;
+import com.wudc.storypool.global.ratelimit.RateLimitProperties;
+import com.wudc.storypool.global.ratelimit.RedisRateLimiter;
 import com.wudc.storypool.global.security.exception.CustomAccessDeniedHandler;
 import com.wudc.storypool.global.security.exception.CustomAuthenticationEntryPoint;
 import com.wudc.storypool.global.security.filter.JwtAuthFilter;
 import com.wudc.storypool.global.security.jwt.JwtParser;
-import com.wudc.storypool.global.security.jwt.JwtProperties;
-import com.wudc.storypool.global.security.principal.PrincipalDetails;
-import com.wudc.storypool.global.security.principal.PrincipalDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -36,8 +38,6 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @RequiredArgsConstructor
 public class  SecurityConfig {
 
-    private final JwtProperties jwtProperties;
-
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
@@ -72,7 +72,9 @@ public class  SecurityConfig {
     public SecurityFilterChain filterChain(
         HttpSecurity http,
         JwtParser jwtParser,
-        PrincipalDetailsService principalDetailsService
+        RedisRateLimiter redisRateLimiter,
+        RateLimitProperties rateLimitProperties,
+        MeterRegistry meterRegistry
     ) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests((authorizeHttpRequests) -> authorizeHttpRequests
@@ -82,9 +84,9 @@ public class  SecurityConfig {
                 // Health check 등 공개 엔드포인트
                 .requestMatchers("/", "/health", "/actuator/health", "/actuator/info")
                 .permitAll()
-                // 기타 Actuator 엔드포인트는 인증 필요 (운영환경에서 보안)
+                // 기타 Actuator 엔드포인트(지표, 알림 보관 관리 등)는 관리자만 (누구나 가입해 토큰을 받을 수 있으므로 인증만으로는 부족)
                 .requestMatchers("/actuator/**")
-                .authenticated()
+                .hasRole(UserRole.ADMIN.name())
                 // Auth 관련 엔드포인트 (로그인, 회원가입 등)
                 .requestMatchers("/api/auth/**")
                 .permitAll()
@@ -110,9 +112,9 @@ public class  SecurityConfig {
                 handler.accessDeniedHandler(accessDeniedHandler());
             })
 
-            .addFilterBefore(new JwtAuthFilter(
-                jwtParser, principalDetailsService, jwtProperties
-            ), UsernamePasswordAuthenticationFilter.class)
+            .addFilterBefore(new JwtAuthFilter(jwtParser), UsernamePasswordAuthenticationFilter.class)
+            // 인증 결과로 사용자별 버킷을 고르므로 JwtAuthFilter 다음에 실행
+            .addFilterAfter(new RateLimitFilter(redisRateLimiter, rateLimitProperties, meterRegistry), JwtAuthFilter.class)
             .cors(withDefaults());
 
         return http.build();
@@ -1,13 +1,8 @@
 package com.wudc.storypool.global.security.filter;
 
-import com.wudc.storypool.common.exception.BaseException;
-import com.wudc.storypool.global.security.exception.CustomSecurityException;
-import com.wudc.storypool.global.security.exception.TokenExpiredException;
-import com.wudc.storypool.global.security.exception.TokenNotValidException;
+import com.wudc.storypool.global.security.jwt.AuthenticatedToken;
 import com.wudc.storypool.global.security.jwt.JwtParser;
-import com.wudc.storypool.global.security.jwt.JwtProperties;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import com.wudc.storypool.global.security.principal.PrincipalDetails;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,19 +10,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.crypto.SecretKey;
 import java.io.IOException;
 
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtParser jwtParser;
-    private final UserDetailsService principalDetailsService; // UserDetailsService로 변경
-    private final JwtProperties jwtProperties;
 
     @Override
     protected void doFilterInternal(
@@ -35,22 +25,21 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain
     ) throws ServletException, IOException { // IOException 추가
-        String userId = jwtParser.parseAccessToken(request, response);
-
-        if (userId == null) {
-            filterChain.doFilter(request, response);
-        } else {
-            try {
-                UserDetails userDetails = principalDetailsService.loadUserByUsername(userId);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                filterChain.doFilter(request, response);
-            } catch (BaseException e) {
-                throw new CustomSecurityException(response, request, e.getErrorCode());
-            }
+        AuthenticatedToken authenticatedToken = jwtParser.parseAccessToken(request, response);
+
+        if (authenticatedToken != null) {
+            // 캐시된 인증 정보로 Principal 을 구성하므로 사용자 재조회가 필요 없음
+            PrincipalDetails principalDetails = new PrincipalDetails(
+                authenticatedToken.userId(),
+                authenticatedToken.email(),
+                authenticatedToken.role()
+            );
+
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken(principalDetails, "", principalDetails.getAuthorities());
+            SecurityContextHolder.getContext().setAuthentication(authentication);
         }
+
+        filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.wudc.storypool.global.security.jwt;
+
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 액세스 토큰의 파싱 결과와 Redis 검증 결과를 함께 담습니다.
+ */
+public record AuthenticatedToken(
+    String userId,
+    String email,
+    UserRole role,
+    boolean valid,
+    Instant expiresAt
+) {
+    public boolean isExpired() {
+        return expiresAt != null && expiresAt.isBefore(Instant.now());
+    }
+}
@@ -0,0 +1,105 @@
+package com.wudc.storypool.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.wudc.storypool.common.util.TokenHashUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 액세스 토큰 해시를 키로 인증 결과를 짧게 보관하는 로컬 캐시입니다.
+ * 캐시 적중 시 JWT 서명 검증, 사용자 조회, Redis 토큰 확인을 모두 생략합니다.
+ * 로그아웃/비밀번호 재설정으로 토큰이 폐기되면 TokenStorageService 가 즉시 제거하며,
+ * 다른 인스턴스에서 폐기된 토큰은 TTL 이내에 자연 만료됩니다.
+ *
+ * 유효한 인증 결과만 보관합니다. 거부된 토큰까지 보관하면 방금 발급된 토큰이 복제 지연으로 한 번 거부됐을 때
+ * TTL 동안 계속 거부됩니다.
+ * 이메일별 전체 제거가 캐시 전체를 훑지 않도록 이메일 → 캐시 키 색인을 함께 둡니다.
+ */
+@Component
+@Slf4j
+public class AuthenticationCache {
+
+    private final boolean enabled;
+    private final Cache<String, AuthenticatedToken> cache;
+    private final Map<String, Set<String>> keysByEmail = new ConcurrentHashMap<>();
+
+    public AuthenticationCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.enabled = !Boolean.FALSE.equals(jwtProperties.getAuthCacheEnabled());
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(jwtProperties.getAuthCacheMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(jwtProperties.getAuthCacheTtlSeconds()))
+            .recordStats()
+            .removalListener(this::onRemoval)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.token");
+    }
+
+    /**
+     * 캐시된 인증 결과를 반환하고, 없으면 loader 로 계산합니다.
+     * loader 가 null(서명 오류, 만료 등)이나 유효하지 않은 결과(폐기된 토큰 등)를 반환하면 캐시하지 않습니다.
+     */
+    public AuthenticatedToken get(String accessToken, Supplier<AuthenticatedToken> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String key = TokenHashUtil.hash(accessToken);
+        AuthenticatedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (cached.isExpired()) {
+                cache.invalidate(key);
+                return null;
+            }
+            return cached;
+        }
+
+        AuthenticatedToken loaded = loader.get();
+        if (loaded != null && loaded.valid()) {
+            // 색인 추가와 캐시 저장을 같은 이메일 잠금 안에서 해 제거 알림과 엇갈려도 색인에서 빠지지 않음
+            keysByEmail.compute(loaded.email(), (email, keys) -> {
+                Set<String> indexed = keys != null ? keys : ConcurrentHashMap.newKeySet();
+                indexed.add(key);
+                cache.put(key, loaded);
+                return indexed;
+            });
+        }
+        return loaded;
+    }
+
+    public void evict(String accessToken) {
+        cache.invalidate(TokenHashUtil.hash(accessToken));
+    }
+
+    public void evictAllForEmail(String email) {
+        Set<String> keys = keysByEmail.remove(email);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+        log.debug("Authentication cache evicted for email: {}", email);
+    }
+
+    /**
+     * 만료/제거된 키를 색인에서 뺍니다. 그 사이 같은 키가 다시 저장됐으면 남겨 둡니다.
+     */
+    private void onRemoval(String key, AuthenticatedToken token, RemovalCause cause) {
+        if (key == null || token == null || cause == RemovalCause.REPLACED) {
+            return;
+        }
+        keysByEmail.computeIfPresent(token.email(), (email, keys) -> {
+            if (!cache.asMap().containsKey(key)) {
+                keys.remove(key);
+            }
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
@@ -1,14 +1,9 @@
 package com.wudc.storypool.global.security.jwt;
 
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
 import java.time.Instant;
 import java.util.Date;
 
@@ -16,40 +11,32 @@ import java.util.Date;
 @RequiredArgsConstructor
 public class JwtGenerator {
     private final JwtProperties jwtProperties;
+    private final JwtKeyManager jwtKeyManager;
 
     public String generateAccessToken(String userId) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()));
-
-        return generateToken(userId, key, jwtProperties.getTokenExpire());
+        return generateToken(userId, JwtKeyType.ACCESS, jwtProperties.getTokenExpire());
     }
 
     public String generateRefreshToken(String userId) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getRefreshSecret()));
-        return generateToken(userId, key, jwtProperties.getRefreshTokenExpire());
+        return generateToken(userId, JwtKeyType.REFRESH, jwtProperties.getRefreshTokenExpire());
     }
 
     public String generateServiceToken(String clientId, String scope) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()));
-        
-        return "Bearer " + Jwts.builder()
-            .signWith(key, SignatureAlgorithm.HS512)
+        return "Bearer " + jwtKeyManager.signServiceToken(Jwts.builder()
             .setSubject("service:" + clientId)
             .setIssuer(jwtProperties.getIssuer())
             .setIssuedAt(new Date())
             .setExpiration(Date.from(Instant.now().plusSeconds(jwtProperties.getTokenExpire() * 60)))
             .claim("scope", scope)
-            .claim("client_id", clientId)
-            .compact();
+            .claim("client_id", clientId));
     }
 
-    private String generateToken(String userId, Key secret, Long expire) {
-        return "Bearer " + Jwts.builder()
-            .signWith(secret, SignatureAlgorithm.HS512)
+    private String generateToken(String userId, JwtKeyType keyType, Long expire) {
+        return "Bearer " + jwtKeyManager.sign(keyType, Jwts.builder()
             .setSubject(userId)
             .setIssuer(jwtProperties.getIssuer())
             .setIssuedAt(new Date())
-            .setExpiration(Date.from(Instant.now().plusSeconds(expire * 60 * 60)))
-            .compact();
+            .setExpiration(Date.from(Instant.now().plusSeconds(expire * 60 * 60))));
     }
 
 }
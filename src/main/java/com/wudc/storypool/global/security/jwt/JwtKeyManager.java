@@ -0,0 +1,127 @@
+package com.wudc.storypool.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.security.Key;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JWT 서명 키와 파서를 애플리케이션 시작 시 한 번만 만들어 재사용합니다.
+ * 새 토큰에는 현재 키의 kid 헤더를 넣고, 파싱 시에는 kid 로 현재 키 또는
+ * 교체 중인 이전 키(jwt.previousKeys)를 골라 검증합니다. kid 가 없는 기존 토큰은 현재 키로 검증합니다.
+ */
+@Component
+@Slf4j
+public class JwtKeyManager {
+
+    private final String currentKeyId;
+    private final Map<JwtKeyType, SecretKey> signingKeys = new EnumMap<>(JwtKeyType.class);
+    private final Map<JwtKeyType, io.jsonwebtoken.JwtParser> parsers = new EnumMap<>(JwtKeyType.class);
+    private final Map<String, Timer> signTimers = new HashMap<>();
+    private final Map<String, Timer> parseTimers = new HashMap<>();
+
+    public JwtKeyManager(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.currentKeyId = jwtProperties.getKeyId();
+
+        SecretKey accessKey = decode(jwtProperties.getAccessSecret());
+        SecretKey refreshKey = decode(jwtProperties.getRefreshSecret());
+        signingKeys.put(JwtKeyType.ACCESS, accessKey);
+        signingKeys.put(JwtKeyType.REFRESH, refreshKey);
+        // 이메일 인증 토큰은 액세스 토큰 시크릿으로 서명
+        signingKeys.put(JwtKeyType.EMAIL, accessKey);
+
+        Map<String, SecretKey> previousAccessKeys = new HashMap<>();
+        Map<String, SecretKey> previousRefreshKeys = new HashMap<>();
+        for (JwtProperties.PreviousKey previousKey : jwtProperties.getPreviousKeys()) {
+            previousAccessKeys.put(previousKey.getKeyId(), decode(previousKey.getAccessSecret()));
+            previousRefreshKeys.put(previousKey.getKeyId(), decode(previousKey.getRefreshSecret()));
+        }
+
+        parsers.put(JwtKeyType.ACCESS, buildParser(accessKey, previousAccessKeys));
+        parsers.put(JwtKeyType.REFRESH, buildParser(refreshKey, previousRefreshKeys));
+        parsers.put(JwtKeyType.EMAIL, buildParser(accessKey, previousAccessKeys));
+
+        for (JwtKeyType type : JwtKeyType.values()) {
+            String tag = type.name().toLowerCase();
+            signTimers.put(tag, timer(meterRegistry, "sign", tag));
+            parseTimers.put(tag, timer(meterRegistry, "parse", tag));
+        }
+        signTimers.put("service", timer(meterRegistry, "sign", "service"));
+
+        log.info("JWT keys initialized with keyId: {} and {} previous key(s)", currentKeyId, previousAccessKeys.size());
+    }
+
+    /**
+     * 현재 키로 서명합니다. kid 헤더가 함께 기록됩니다.
+     */
+    public String sign(JwtKeyType type, JwtBuilder builder) {
+        return sign(type, type.name().toLowerCase(), builder);
+    }
+
+    public String signServiceToken(JwtBuilder builder) {
+        return sign(JwtKeyType.ACCESS, "service", builder);
+    }
+
+    /**
+     * 서명과 만료를 검증한 Claims 를 반환합니다. 검증 실패 시 jjwt 예외를 그대로 던집니다.
+     */
+    public Claims parse(JwtKeyType type, String token) {
+        return parseTimers.get(type.name().toLowerCase())
+            .record(() -> parsers.get(type).parseClaimsJws(token).getBody());
+    }
+
+    private String sign(JwtKeyType type, String timerTag, JwtBuilder builder) {
+        return signTimers.get(timerTag).record(() -> builder
+            .setHeaderParam(JwsHeader.KEY_ID, currentKeyId)
+            .signWith(signingKeys.get(type), type.getAlgorithm())
+            .compact());
+    }
+
+    private io.jsonwebtoken.JwtParser buildParser(SecretKey currentKey, Map<String, SecretKey> previousKeys) {
+        Map<String, SecretKey> keysById = Collections.unmodifiableMap(new HashMap<>(previousKeys));
+
+        return Jwts.parserBuilder()
+            .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                @Override
+                public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                    String keyId = header.getKeyId();
+                    if (keyId == null || keyId.equals(currentKeyId)) {
+                        return currentKey;
+                    }
+                    SecretKey previousKey = keysById.get(keyId);
+                    if (previousKey == null) {
+                        throw new MalformedJwtException("Unknown JWT key id: " + keyId);
+                    }
+                    return previousKey;
+                }
+            })
+            .build();
+    }
+
+    private Timer timer(MeterRegistry meterRegistry, String operation, String type) {
+        return Timer.builder("jwt.operation")
+            .description("JWT sign/parse latency")
+            .tag("operation", operation)
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    private SecretKey decode(String secret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+    }
+}
@@ -0,0 +1,15 @@
+package com.wudc.storypool.global.security.jwt;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum JwtKeyType {
+    ACCESS(SignatureAlgorithm.HS512),
+    REFRESH(SignatureAlgorithm.HS512),
+    EMAIL(SignatureAlgorithm.HS256);
+
+    private final SignatureAlgorithm algorithm;
+}
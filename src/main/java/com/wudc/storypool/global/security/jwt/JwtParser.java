@@ -5,30 +5,23 @@ import com.wudc.storypool.common.exception.ErrorCode;
 import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
 import com.wudc.storypool.domain.user.service.TokenStorageService;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.security.Key;
-import java.util.Optional;
-
 @Component
 @RequiredArgsConstructor
 public class JwtParser {
-    private final JwtProperties jwtProperties;
+    private final JwtKeyManager jwtKeyManager;
     private final TokenStorageService tokenStorageService;
     private final UserRepository userRepository;
+    private final AuthenticationCache authenticationCache;
 
-    public String parseAccessToken(HttpServletRequest request, HttpServletResponse response) {
-        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()));
-
+    public AuthenticatedToken parseAccessToken(HttpServletRequest request, HttpServletResponse response) {
         String token = request.getHeader("Authorization");
 
         if (token == null || token.replace("Bearer ", "").isBlank() || token.isBlank()) {
@@ -36,30 +29,52 @@ public class JwtParser {
         }
 
         String accessToken = token.replace("Bearer ", "");
-        String userId = getUserIdByToken(accessToken, key);
+        AuthenticatedToken authenticatedToken = authenticationCache.get(accessToken, () -> authenticate(accessToken));
 
-        if (userId == null) {
+        if (authenticatedToken == null || !authenticatedToken.valid()) {
             return null;
         }
 
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+        return authenticatedToken;
+    }
 
-        if (!tokenStorageService.isValidAccessToken("Bearer " + accessToken, user.getEmail())) {
+    private AuthenticatedToken authenticate(String accessToken) {
+        Claims claims = parseClaims(accessToken, JwtKeyType.ACCESS);
+
+        if (claims == null || claims.getSubject() == null) {
             return null;
         }
 
-        return userId;
+        User user = userRepository.findById(claims.getSubject())
+            .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        boolean valid = tokenStorageService.isValidAccessToken("Bearer " + accessToken, user.getEmail());
+
+        return new AuthenticatedToken(
+            user.getId(),
+            user.getEmail(),
+            user.getRole(),
+            valid,
+            claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+    }
+
+    public String getUserIdByAccessToken(String token) {
+        return getSubject(token, JwtKeyType.ACCESS);
+    }
+
+    public String getUserIdByRefreshToken(String token) {
+        return getSubject(token, JwtKeyType.REFRESH);
+    }
+
+    private String getSubject(String token, JwtKeyType keyType) {
+        Claims claims = parseClaims(token, keyType);
+        return claims != null ? claims.getSubject() : null;
     }
 
-    public String getUserIdByToken(String token, Key key) {
+    private Claims parseClaims(String token, JwtKeyType keyType) {
         try {
-            return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
+            return jwtKeyManager.parse(keyType, token);
         } catch (ExpiredJwtException | MalformedJwtException e) {
             return null;
         }
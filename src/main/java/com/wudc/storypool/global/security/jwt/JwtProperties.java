@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 @Getter @Setter
 @ConfigurationProperties(prefix = "jwt")
@@ -16,4 +19,19 @@ public class JwtProperties {
     private Long refreshTokenExpire;
     private Boolean isSecure;
     private String sameSite;
+    private Boolean authCacheEnabled = true;
+    private Long authCacheTtlSeconds = 30L;
+    private Long authCacheMaximumSize = 10_000L;
+    private String keyId = "v1";
+    private List<PreviousKey> previousKeys = new ArrayList<>();
+
+    /**
+     * 키 교체 기간 동안 기존 토큰 검증에만 사용하는 이전 서명 키
+     */
+    @Getter @Setter
+    public static class PreviousKey {
+        private String keyId;
+        private String accessSecret;
+        private String refreshSecret;
+    }
 }
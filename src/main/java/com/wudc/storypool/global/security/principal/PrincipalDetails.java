@@ -1,6 +1,8 @@
 package com.wudc.storypool.global.security.principal;
 
 import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -9,30 +11,34 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.ArrayList;
 import java.util.Collection;
 
+@Getter
 @RequiredArgsConstructor
 public class PrincipalDetails implements UserDetails {
 
-    private final User user;
-    
-    public User getUser() {
-        return user;
+    private final String userId;
+    private final String email;
+    private final UserRole role;
+
+    public static PrincipalDetails from(User user) {
+        return new PrincipalDetails(user.getId(), user.getEmail(), user.getRole());
     }
     
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         ArrayList<SimpleGrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(new SimpleGrantedAuthority("ROLE_" + user.getRole().toString()));
+        authorities.add(new SimpleGrantedAuthority("ROLE_" + role.toString()));
         return authorities;
     }
     
     @Override
     public String getPassword() {
-        return user.getPassword();
+        // JWT 기반 인증이므로 비밀번호를 보관하지 않음
+        return null;
     }
     
     @Override
     public String getUsername() {
-        return user.getEmail();
+        return email;
     }
     
     @Override
@@ -54,4 +60,4 @@ public class PrincipalDetails implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-}
\ No newline at end of file
+}
@@ -24,6 +24,6 @@ public class PrincipalDetailsService implements UserDetailsService {
         User user = userRepository.findById(username)
                 .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
-        return new PrincipalDetails(user);
+        return PrincipalDetails.from(user);
     }
 }
\ No newline at end of file
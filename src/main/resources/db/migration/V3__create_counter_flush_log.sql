@@ -0,0 +1,6 @@
+-- 카운터 플러시 배치 반영 기록 (CounterBuffer)
+CREATE TABLE IF NOT EXISTS counter_flush_log (
+    batch_id   VARCHAR(36) PRIMARY KEY,
+    applied_at DATETIME(6) NOT NULL,
+    INDEX idx_applied_at (applied_at)
+);
@@ -0,0 +1,57 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+import com.wudc.storypool.global.security.jwt.AuthenticatedToken;
+import com.wudc.storypool.global.security.jwt.JwtParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Actuator 접근 권한 테스트")
+public class ActuatorAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private JwtParser jwtParser;
+
+    @DisplayName("일반 사용자는 지표와 알림 보관 엔드포인트에 접근할 수 없음")
+    @Test
+    public void userCannotReadManagementEndpoints() throws Exception {
+        // given
+        authenticateAs(UserRole.USER);
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics").header("Authorization", "Bearer token"))
+            .andExpect(status().isForbidden());
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/notificationretention").header("Authorization", "Bearer token"))
+            .andExpect(status().isForbidden());
+    }
+
+    @DisplayName("관리자는 지표를 조회할 수 있음")
+    @Test
+    public void adminCanReadMetrics() throws Exception {
+        // given
+        authenticateAs(UserRole.ADMIN);
+
+        // when & then
+        mockMvc.perform(MockMvcRequestBuilders.get("/actuator/metrics").header("Authorization", "Bearer token"))
+            .andExpect(status().isOk());
+    }
+
+    private void authenticateAs(UserRole role) {
+        when(jwtParser.parseAccessToken(any(), any()))
+            .thenReturn(new AuthenticatedToken("userId", "test@test.com", role, true, null));
+    }
+}
@@ -0,0 +1,71 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+import com.wudc.storypool.global.security.jwt.AuthenticatedToken;
+import com.wudc.storypool.global.security.jwt.AuthenticationCache;
+import com.wudc.storypool.global.security.jwt.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인증 결과 캐시 테스트")
+public class AuthenticationCacheTest {
+
+    private final AuthenticationCache authenticationCache =
+        new AuthenticationCache(new JwtProperties(), new SimpleMeterRegistry());
+
+    @DisplayName("유효하지 않은 인증 결과는 캐시하지 않고 다음 요청에서 다시 확인")
+    @Test
+    public void doesNotCacheInvalidResults() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        AuthenticatedToken rejected = token("user@storypool.test", false);
+        AuthenticatedToken accepted = token("user@storypool.test", true);
+
+        // when
+        AuthenticatedToken first = authenticationCache.get("token", () -> {
+            loads.incrementAndGet();
+            return rejected;
+        });
+        AuthenticatedToken second = authenticationCache.get("token", () -> {
+            loads.incrementAndGet();
+            return accepted;
+        });
+        AuthenticatedToken third = authenticationCache.get("token", () -> {
+            loads.incrementAndGet();
+            return rejected;
+        });
+
+        // then
+        assertThat(first.valid()).isFalse();
+        assertThat(second.valid()).isTrue();
+        assertThat(third).isSameAs(accepted);
+        assertThat(loads).hasValue(2);
+    }
+
+    @DisplayName("이메일별 전체 제거는 그 사용자의 토큰만 제거")
+    @Test
+    public void evictAllForEmail() {
+        // given
+        authenticationCache.get("token-1", () -> token("user@storypool.test", true));
+        authenticationCache.get("token-2", () -> token("user@storypool.test", true));
+        authenticationCache.get("other-token", () -> token("other@storypool.test", true));
+
+        // when
+        authenticationCache.evictAllForEmail("user@storypool.test");
+
+        // then
+        assertThat(authenticationCache.get("token-1", () -> null)).isNull();
+        assertThat(authenticationCache.get("token-2", () -> null)).isNull();
+        assertThat(authenticationCache.get("other-token", () -> null)).isNotNull();
+    }
+
+    private static AuthenticatedToken token(String email, boolean valid) {
+        return new AuthenticatedToken("userId", email, UserRole.USER, valid, Instant.now().plusSeconds(600));
+    }
+}
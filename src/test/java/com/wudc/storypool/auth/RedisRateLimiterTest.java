@@ -0,0 +1,115 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.common.exception.BaseException;
+import com.wudc.storypool.common.exception.ErrorCode;
+import com.wudc.storypool.domain.user.service.LoginAttemptService;
+import com.wudc.storypool.global.ratelimit.RedisRateLimiter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("Redis 횟수 제한 테스트")
+public class RedisRateLimiterTest {
+
+    private static final int CONCURRENT_REQUESTS = 20;
+
+    @Autowired
+    private RedisRateLimiter redisRateLimiter;
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String email = UUID.randomUUID() + "@storypool.test";
+    private final String windowKey = "rate_limit_test:" + UUID.randomUUID();
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete(Set.of("login_attempt:" + email, windowKey));
+    }
+
+    @DisplayName("동시에 로그인에 실패해도 실패 횟수가 누락되지 않음")
+    @Test
+    public void concurrentFailedAttemptsAreCounted() throws Exception {
+        runConcurrently(() -> {
+            loginAttemptService.recordFailedAttempt(email);
+            return true;
+        });
+
+        assertThat(loginAttemptService.getFailedAttempts(email)).isEqualTo(CONCURRENT_REQUESTS);
+        assertThat(stringRedisTemplate.getExpire("login_attempt:" + email)).isPositive();
+    }
+
+    @DisplayName("로그인에 5번 실패하면 잠기고, 실패 횟수를 초기화하면 풀림")
+    @Test
+    public void lockoutAfterMaxAttemptsAndReset() {
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.recordFailedAttempt(email);
+        }
+        loginAttemptService.validateLoginAttempt(email);
+
+        loginAttemptService.recordFailedAttempt(email);
+        assertThatThrownBy(() -> loginAttemptService.validateLoginAttempt(email))
+            .isInstanceOf(BaseException.class)
+            .extracting("errorCode")
+            .isEqualTo(ErrorCode.ACCOUNT_LOCKED);
+
+        loginAttemptService.resetFailedAttempts(email);
+        assertThat(loginAttemptService.getFailedAttempts(email)).isZero();
+        loginAttemptService.validateLoginAttempt(email);
+    }
+
+    @DisplayName("동시에 요청해도 윈도 안에서는 limit 만큼만 허용")
+    @Test
+    public void slidingWindowIsExactUnderConcurrency() throws Exception {
+        List<Boolean> results = runConcurrently(() -> redisRateLimiter.tryAcquire(windowKey, 3, Duration.ofMinutes(1)));
+
+        assertThat(results).filteredOn(Boolean::booleanValue).hasSize(3);
+        assertThat(stringRedisTemplate.opsForZSet().zCard(windowKey)).isEqualTo(3);
+    }
+
+    @DisplayName("윈도가 지나면 다시 허용")
+    @Test
+    public void slidingWindowExpires() throws Exception {
+        assertThat(redisRateLimiter.tryAcquire(windowKey, 1, Duration.ofMillis(300))).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(windowKey, 1, Duration.ofMillis(300))).isFalse();
+
+        Thread.sleep(400);
+
+        assertThat(redisRateLimiter.tryAcquire(windowKey, 1, Duration.ofMillis(300))).isTrue();
+    }
+
+    private List<Boolean> runConcurrently(Callable<Boolean> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                futures.add(executor.submit(task));
+            }
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.domain.user.service.TokenStorageService;
+import com.wudc.storypool.global.ratelimit.RedisRateLimiter;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 센티넬 장애 조치 중에도 토큰 검증과 요청 제한이 이어지는지 확인합니다.
+ * 기본 test 태스크에서는 제외되며 docker compose --profile redis-sentinel up -d 후 ./gradlew failoverTest 로 실행합니다.
+ */
+@Tag("failover")
+@SpringBootTest(properties = {
+    "spring.data.redis.sentinel.master=storypool",
+    "spring.data.redis.sentinel.nodes=127.0.0.1:26379,127.0.0.1:26380,127.0.0.1:26381",
+    "spring.data.redis.password=1234"
+})
+@DisplayName("Redis 센티넬 장애 조치 테스트")
+public class RedisSentinelFailoverTest {
+
+    private static final String MASTER_NAME = "storypool";
+    private static final Duration FAILOVER_TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private TokenStorageService tokenStorageService;
+    @Autowired
+    private RedisRateLimiter redisRateLimiter;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String email = UUID.randomUUID() + "@storypool.test";
+    private final String rateLimitKey = "rate_limit:failover:" + UUID.randomUUID();
+
+    @AfterEach
+    public void tearDown() {
+        tokenStorageService.removeAllTokensForEmail(email);
+        stringRedisTemplate.delete(Set.of("token_index:{" + email + "}", "legacy_token_revoked:" + email,
+            "replication_fence:{" + email + "}", rateLimitKey));
+    }
+
+    @DisplayName("복제본에서 읽는 구성에서도 폐기한 토큰은 바로 다음 검증부터 거부")
+    @Test
+    public void revokedTokenIsRejectedByReplica() {
+        for (int i = 0; i < 20; i++) {
+            String accessToken = "access-" + UUID.randomUUID();
+            tokenStorageService.storeAccessToken(accessToken, email);
+            assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+
+            tokenStorageService.removeAccessToken(accessToken, email);
+
+            assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isFalse();
+        }
+    }
+
+    @DisplayName("기본 노드가 바뀐 뒤에도 저장한 토큰이 유효하고, 쓰기와 요청 제한이 계속 동작")
+    @Test
+    public void survivesFailover() throws Exception {
+        String accessToken = "access-" + UUID.randomUUID();
+        tokenStorageService.storeAccessToken(accessToken, email);
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        // 복제본에 반영된 뒤 장애 조치해야 유실 없이 넘어감
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("WAIT",
+            "1".getBytes(StandardCharsets.UTF_8), "2000".getBytes(StandardCharsets.UTF_8)));
+
+        RedisClient client = RedisClient.create(RedisURI.create("redis://127.0.0.1:26379"));
+        try (StatefulRedisSentinelConnection<String, String> sentinel = client.connectSentinel()) {
+            SocketAddress before = sentinel.sync().getMasterAddrByName(MASTER_NAME);
+            sentinel.sync().failover(MASTER_NAME);
+
+            long deadline = System.currentTimeMillis() + FAILOVER_TIMEOUT.toMillis();
+            while (System.currentTimeMillis() < deadline
+                    && before.equals(sentinel.sync().getMasterAddrByName(MASTER_NAME))) {
+                Thread.sleep(200);
+            }
+            assertThat(sentinel.sync().getMasterAddrByName(MASTER_NAME)).isNotEqualTo(before);
+        } finally {
+            client.shutdown();
+        }
+
+        // 연결이 새 기본 노드로 옮겨갈 때까지 재시도
+        String refreshToken = "refresh-" + UUID.randomUUID();
+        long deadline = System.currentTimeMillis() + FAILOVER_TIMEOUT.toMillis();
+        while (true) {
+            try {
+                tokenStorageService.storeRefreshToken(refreshToken, email);
+                break;
+            } catch (Exception e) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw e;
+                }
+                Thread.sleep(500);
+            }
+        }
+
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(rateLimitKey, 1, Duration.ofMinutes(1))).isTrue();
+        assertThat(redisRateLimiter.tryAcquire(rateLimitKey, 1, Duration.ofMinutes(1))).isFalse();
+    }
+}
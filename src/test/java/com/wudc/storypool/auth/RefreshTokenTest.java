@@ -6,9 +6,6 @@ import com.wudc.storypool.domain.user.entity.User;
 import com.wudc.storypool.domain.user.repository.UserRepository;
 import com.wudc.storypool.domain.user.service.TokenStorageService;
 import com.wudc.storypool.global.security.jwt.JwtParser;
-import com.wudc.storypool.global.security.jwt.JwtProperties;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,16 +40,14 @@ public class RefreshTokenTest {
     private PasswordEncoder passwordEncoder;
     @MockitoBean
     private TokenStorageService tokenStorageService;
-    @Autowired
-    private JwtProperties jwtProperties;
 
     @DisplayName("성공")
     @Test
     public void refreshTokenSuccess() throws Exception {
         // given
-        when(jwtParser.getUserIdByToken("refreshToken", Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getRefreshSecret()))))
+        when(jwtParser.getUserIdByRefreshToken("refreshToken"))
             .thenReturn("userId");
-        when(jwtParser.getUserIdByToken("accessToken", Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getAccessSecret()))))
+        when(jwtParser.getUserIdByAccessToken("accessToken"))
             .thenReturn("userId");
         User testUser = User.createUser(
             "test@test.com",
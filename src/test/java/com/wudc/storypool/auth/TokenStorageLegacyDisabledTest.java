@@ -0,0 +1,48 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.common.util.TokenHashUtil;
+import com.wudc.storypool.domain.user.service.TokenStorageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "redis.legacyMigration.enabled=false")
+@DisplayName("이전 형식 토큰 옮기기를 끈 토큰 저장소 테스트")
+public class TokenStorageLegacyDisabledTest {
+
+    @Autowired
+    private TokenStorageService tokenStorageService;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String email = UUID.randomUUID() + "@storypool.test";
+    private final String accessToken = "access-" + UUID.randomUUID();
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete("access_token:" + TokenHashUtil.hash(accessToken));
+        tokenStorageService.removeAllTokensForEmail(email);
+    }
+
+    @DisplayName("옮기기를 끄면 이전 형식 키는 찾지 않고 현재 형식 토큰만 인정")
+    @Test
+    public void ignoresUntaggedTokens() {
+        // given
+        stringRedisTemplate.opsForValue().set("access_token:" + TokenHashUtil.hash(accessToken), email, Duration.ofMinutes(10));
+
+        // when & then
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isFalse();
+        assertThat(stringRedisTemplate.hasKey("access_token:" + TokenHashUtil.hash(accessToken))).isTrue();
+
+        tokenStorageService.storeAccessToken(accessToken, email);
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+    }
+}
@@ -0,0 +1,175 @@
+package com.wudc.storypool.auth;
+
+import com.wudc.storypool.common.util.TokenHashUtil;
+import com.wudc.storypool.domain.user.service.TokenStorageService;
+import com.wudc.storypool.global.redis.JdkSerializedString;
+import com.wudc.storypool.global.redis.LegacyRedisKeyMigration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("토큰 저장소 테스트")
+public class TokenStorageServiceTest {
+
+    @Autowired
+    private TokenStorageService tokenStorageService;
+    @Autowired
+    private LegacyRedisKeyMigration legacyRedisKeyMigration;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final String email = UUID.randomUUID() + "@storypool.test";
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete(Set.of("token_index:{" + email + "}", "legacy_token_revoked:" + email));
+    }
+
+    @DisplayName("원본 토큰 대신 해시를 키로 저장하고, Bearer 접두어 유무와 관계없이 검증")
+    @Test
+    public void storesHashedKeys() {
+        String accessToken = "access-" + UUID.randomUUID();
+        tokenStorageService.storeAccessToken(accessToken, email);
+
+        assertThat(stringRedisTemplate.hasKey("access_token:" + accessToken)).isFalse();
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        assertThat(tokenStorageService.isValidAccessToken("Bearer " + accessToken, email)).isTrue();
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, "other@storypool.test")).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().zCard("token_index:{" + email + "}")).isEqualTo(1);
+        assertThat(stringRedisTemplate.keys("access_token:{" + email + "}:*")).hasSize(1);
+    }
+
+    @DisplayName("폐기한 토큰은 바로 다음 검증부터 거부")
+    @Test
+    public void revokedTokenIsRejectedImmediately() {
+        String accessToken = "access-" + UUID.randomUUID();
+        String refreshToken = "refresh-" + UUID.randomUUID();
+        tokenStorageService.storeAccessToken(accessToken, email);
+        tokenStorageService.storeRefreshToken(refreshToken, email);
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isTrue();
+
+        tokenStorageService.revokeAccessToken(accessToken, email);
+        tokenStorageService.removeRefreshToken(refreshToken, email);
+
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isFalse();
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isFalse();
+    }
+
+    @DisplayName("해시 태그 없이 저장된 이전 형식 토큰은 검증 시 태그 키로 옮기고, 전체 폐기 시 함께 무효화")
+    @Test
+    public void migratesUntaggedTokens() {
+        String accessToken = "access-" + UUID.randomUUID();
+        String refreshToken = "refresh-" + UUID.randomUUID();
+        String untaggedAccessKey = "access_token:" + TokenHashUtil.hash(accessToken);
+        String untaggedRefreshKey = "refresh_token:" + TokenHashUtil.hash(refreshToken);
+        stringRedisTemplate.opsForValue().set(untaggedAccessKey, email, Duration.ofMinutes(10));
+        stringRedisTemplate.opsForValue().set(untaggedRefreshKey, email, Duration.ofMinutes(10));
+        stringRedisTemplate.opsForZSet().add("token_index:" + email, untaggedRefreshKey, System.currentTimeMillis() + 600_000);
+
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        assertThat(stringRedisTemplate.hasKey(untaggedAccessKey)).isFalse();
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+
+        tokenStorageService.removeAllTokensForEmail(email);
+
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isFalse();
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isFalse();
+        assertThat(stringRedisTemplate.hasKey("token_index:" + email)).isFalse();
+    }
+
+    @DisplayName("전체 폐기 시 해당 사용자의 토큰만 모두 무효화")
+    @Test
+    public void removeAllTokensForEmail() {
+        String otherEmail = UUID.randomUUID() + "@storypool.test";
+        String otherToken = "access-" + UUID.randomUUID();
+        tokenStorageService.storeAccessToken(otherToken, otherEmail);
+
+        String[] accessTokens = new String[3];
+        String[] refreshTokens = new String[3];
+        for (int i = 0; i < 3; i++) {
+            accessTokens[i] = "access-" + UUID.randomUUID();
+            refreshTokens[i] = "refresh-" + UUID.randomUUID();
+            tokenStorageService.storeAccessToken(accessTokens[i], email);
+            tokenStorageService.storeRefreshToken(refreshTokens[i], email);
+        }
+
+        tokenStorageService.removeAllTokensForEmail(email);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(tokenStorageService.isValidAccessToken(accessTokens[i], email)).isFalse();
+            assertThat(tokenStorageService.isValidRefreshToken(refreshTokens[i], email)).isFalse();
+        }
+        assertThat(stringRedisTemplate.opsForZSet().zCard("token_index:{" + email + "}")).isZero();
+        assertThat(tokenStorageService.isValidAccessToken(otherToken, otherEmail)).isTrue();
+
+        tokenStorageService.removeAllTokensForEmail(otherEmail);
+        stringRedisTemplate.delete(Set.of("token_index:{" + otherEmail + "}", "legacy_token_revoked:" + otherEmail));
+    }
+
+    @DisplayName("이전 형식(JDK 직렬화된 원본 토큰 키)의 토큰은 검증 시 새 형식으로 옮기고, 전체 폐기 이후에는 거부")
+    @Test
+    public void migratesLegacyTokens() {
+        String refreshToken = "refresh-" + UUID.randomUUID();
+        setLegacy("refresh_token:" + refreshToken, email);
+
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isTrue();
+        assertThat(legacyExists("refresh_token:" + refreshToken)).isFalse();
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isTrue();
+
+        String legacyToken = "refresh-" + UUID.randomUUID();
+        setLegacy("refresh_token:" + legacyToken, email);
+        tokenStorageService.removeAllTokensForEmail(email);
+
+        assertThat(tokenStorageService.isValidRefreshToken(refreshToken, email)).isFalse();
+        assertThat(tokenStorageService.isValidRefreshToken(legacyToken, email)).isFalse();
+        unlinkLegacy("refresh_token:" + legacyToken);
+    }
+
+    @DisplayName("기동 시 이전 형식 키를 남은 TTL 을 유지한 채 문자열 키로 옮김")
+    @Test
+    public void migratesLegacyKeysOnStartup() {
+        String authCodeKey = "auth_code:" + email;
+        String accessToken = "access-" + UUID.randomUUID();
+        setLegacy(authCodeKey, "123456");
+        setLegacy("access_token:" + accessToken, email);
+
+        legacyRedisKeyMigration.migrate();
+
+        assertThat(stringRedisTemplate.opsForValue().get(authCodeKey)).isEqualTo("123456");
+        assertThat(stringRedisTemplate.getExpire(authCodeKey)).isPositive();
+        assertThat(legacyExists(authCodeKey)).isFalse();
+        assertThat(legacyExists("access_token:" + accessToken)).isFalse();
+        assertThat(tokenStorageService.isValidAccessToken(accessToken, email)).isTrue();
+        stringRedisTemplate.delete(authCodeKey);
+    }
+
+    private void setLegacy(String key, String value) {
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(
+            JdkSerializedString.encode(key), JdkSerializedString.encode(value),
+            Expiration.from(Duration.ofMinutes(10)), RedisStringCommands.SetOption.upsert()));
+    }
+
+    private boolean legacyExists(String key) {
+        return Boolean.TRUE.equals(stringRedisTemplate.execute(
+            (RedisCallback<Boolean>) connection -> connection.keyCommands().exists(JdkSerializedString.encode(key))));
+    }
+
+    private void unlinkLegacy(String key) {
+        stringRedisTemplate.execute(
+            (RedisCallback<Long>) connection -> connection.keyCommands().unlink(JdkSerializedString.encode(key)));
+    }
+}
@@ -0,0 +1,222 @@
+package com.wudc.storypool.device;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.sun.net.httpserver.HttpServer;
+import com.wudc.storypool.domain.user.entity.Device;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.domain.user.entity.constant.Platform;
+import com.wudc.storypool.domain.user.repository.DeviceRepository;
+import com.wudc.storypool.global.fcm.FcmService;
+import com.wudc.storypool.global.fcm.PushDispatcher;
+import com.wudc.storypool.support.TestUsers;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 주기 발송은 기동 직후 한 번만 돌도록 간격을 길게 두고, 테스트에서 flush 를 직접 호출
+@SpringBootTest(properties = "fcm.flushIntervalMs=3600000")
+@DisplayName("푸시 알림 배치 발송 테스트")
+public class PushDispatchTest {
+
+    private static final String PROJECT_ID = "fake-project";
+    private static final String UNREGISTERED_PREFIX = "unregistered-";
+
+    private static final AtomicInteger receivedRequests = new AtomicInteger();
+    private static final Set<String> receivedTokens = ConcurrentHashMap.newKeySet();
+    private static final HttpServer fcmServer = startFakeFcmServer();
+
+    @Autowired
+    private FcmService fcmService;
+    @Autowired
+    private PushDispatcher pushDispatcher;
+    @Autowired
+    private DeviceRepository deviceRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @TestConfiguration
+    static class FakeFcmConfig {
+
+        /**
+         * FCM 요청을 로컬 가짜 서버로 보내는 FirebaseMessaging
+         */
+        @Bean
+        @Primary
+        public FirebaseMessaging fakeFirebaseMessaging() {
+            String appName = "fake-fcm";
+            FirebaseApp app = FirebaseApp.getApps().stream()
+                .filter(existing -> existing.getName().equals(appName))
+                .findFirst()
+                .orElseGet(() -> FirebaseApp.initializeApp(FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.create(new AccessToken("fake-token", new Date(Long.MAX_VALUE))))
+                    .setProjectId(PROJECT_ID)
+                    .setHttpTransport(new NetHttpTransport.Builder()
+                        .setConnectionFactory(url -> (HttpURLConnection) URI.create(
+                            "http://localhost:" + fcmServer.getAddress().getPort() + url.getFile()).toURL().openConnection())
+                        .build())
+                    .build(), appName));
+            return FirebaseMessaging.getInstance(app);
+        }
+    }
+
+    @AfterAll
+    static void stopFakeFcmServer() {
+        fcmServer.stop(0);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        receivedRequests.set(0);
+        receivedTokens.clear();
+        user = testUsers.create("user");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM device WHERE user_id = ?", user.getId());
+        testUsers.delete(user);
+    }
+
+    @DisplayName("토큰을 500개씩 나눠 발송하고 UNREGISTERED 토큰의 기기는 삭제")
+    @Test
+    public void sendInBatchesAndPruneUnregistered() throws Exception {
+        // given
+        List<Device> devices = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            devices.add(Device.create(user, "device" + i, "token-" + i, Platform.ANDROID));
+        }
+        devices.add(Device.create(user, "device-gone", UNREGISTERED_PREFIX + user.getId(), Platform.IOS));
+        deviceRepository.saveAll(devices);
+        long batchesBefore = meterRegistry.timer("fcm.push.batch").count();
+
+        // when
+        fcmService.sendFairytaleCompletionNotification(user.getId(), "fairytaleId", "name");
+        pushDispatcher.flush();
+
+        // then
+        awaitRequests(501);
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && countDevices() > 500) {
+            Thread.sleep(100);
+        }
+
+        assertThat(receivedTokens).hasSize(501);
+        assertThat(meterRegistry.timer("fcm.push.batch").count() - batchesBefore).isEqualTo(2);
+        assertThat(countDevices()).isEqualTo(500);
+        assertThat(deviceRepository.findFcmTokensByUserIdIn(List.of(user.getId())))
+            .doesNotContain(UNREGISTERED_PREFIX + user.getId());
+    }
+
+    @DisplayName("같은 사용자에게 쌓인 같은 알림은 한 번만 발송")
+    @Test
+    public void coalesceDuplicateNotifications() throws Exception {
+        // given
+        deviceRepository.saveAll(List.of(
+            Device.create(user, "device1", "token-a-" + user.getId(), Platform.ANDROID),
+            Device.create(user, "device2", "token-b-" + user.getId(), Platform.IOS)
+        ));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            fcmService.sendFairytaleCompletionNotification(user.getId(), "fairytaleId", "name");
+        }
+        pushDispatcher.flush();
+
+        // then
+        awaitRequests(2);
+        Thread.sleep(500);
+        assertThat(receivedRequests.get()).isEqualTo(2);
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline && receivedRequests.get() < expected) {
+            Thread.sleep(100);
+        }
+        assertThat(receivedRequests.get()).isEqualTo(expected);
+    }
+
+    private long countDevices() {
+        return deviceRepository.findFcmTokensByUserIdIn(List.of(user.getId())).size();
+    }
+
+    /**
+     * FCM v1 send API 를 흉내 내는 서버. UNREGISTERED_PREFIX 로 시작하는 토큰은 404 UNREGISTERED 로 응답합니다.
+     */
+    private static HttpServer startFakeFcmServer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/v1/projects/" + PROJECT_ID + "/messages:send", exchange -> {
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                String token = request.path("message").path("token").asText();
+                receivedTokens.add(token);
+                receivedRequests.incrementAndGet();
+
+                int status;
+                String body;
+                if (token.startsWith(UNREGISTERED_PREFIX)) {
+                    status = 404;
+                    body = """
+                        {"error":{"code":404,"message":"Requested entity was not found.","status":"NOT_FOUND",
+                        "details":[{"@type":"type.googleapis.com/google.firebase.fcm.v1.FcmError","errorCode":"UNREGISTERED"}]}}
+                        """;
+                } else {
+                    status = 200;
+                    body = "{\"name\":\"projects/" + PROJECT_ID + "/messages/" + UUID.randomUUID() + "\"}";
+                }
+
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+                exchange.sendResponseHeaders(status, bytes.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(bytes);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.wudc.storypool.fairytale;
+
+import com.sun.net.httpserver.HttpServer;
+import com.wudc.storypool.domain.fairytale.entity.Fairytale;
+import com.wudc.storypool.domain.fairytale.entity.constant.FairytaleStatus;
+import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import com.wudc.storypool.domain.fairytale.service.FairytaleService;
+import com.wudc.storypool.domain.story.entity.Story;
+import com.wudc.storypool.domain.story.repository.StoryRepository;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.global.outbox.OutboxEventRepository;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "outbox.pollIntervalMs=100")
+@DisplayName("동화 생성 요청 아웃박스 테스트")
+public class FairytaleGenerationOutboxTest {
+
+    private static final int REQUEST_COUNT = 20;
+    private static final long LLM_LATENCY_MS = 2_000;
+
+    private static final AtomicInteger receivedRequests = new AtomicInteger();
+    private static final HttpServer llmServer = startStubLlmServer();
+
+    @Autowired
+    private FairytaleService fairytaleService;
+    @Autowired
+    private FairytaleRepository fairytaleRepository;
+    @Autowired
+    private StoryRepository storyRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    private User user;
+    private final List<String> storyIds = new ArrayList<>();
+    private final List<String> fairytaleIds = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void llmServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("llm.server.base-url", () -> "http://localhost:" + llmServer.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopStubLlmServer() {
+        llmServer.stop(0);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        receivedRequests.set(0);
+        user = testUsers.create("user");
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Story story = storyRepository.save(new Story(
+                user.getId(),
+                "story" + i,
+                "This is a test story content that is long enough to meet the minimum requirement of 50 characters.",
+                false
+            ));
+            storyIds.add(story.getId());
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        outboxEventRepository.deleteAll(outboxEventRepository.findAll().stream()
+            .filter(event -> fairytaleIds.contains(event.getAggregateId()))
+            .toList());
+        fairytaleRepository.deleteAllById(fairytaleIds);
+        storyRepository.deleteAllById(storyIds);
+        testUsers.delete(user);
+    }
+
+    @DisplayName("LLM 서버가 느려도 생성 요청은 즉시 PENDING 으로 반환되고, 이후 발송되어 PROCESSING 으로 전환")
+    @Test
+    public void generationDoesNotWaitForLlm() throws Exception {
+        long start = System.currentTimeMillis();
+        for (String storyId : storyIds) {
+            Fairytale fairytale = fairytaleService.generateFairytale(user.getId(), storyId, "name");
+            fairytaleIds.add(fairytale.getId());
+            assertThat(fairytale.getStatus()).isEqualTo(FairytaleStatus.PENDING);
+        }
+        long elapsed = System.currentTimeMillis() - start;
+
+        // 요청 20건 전체가 LLM 응답 한 번보다 빨리 끝남
+        assertThat(elapsed).isLessThan(LLM_LATENCY_MS);
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (System.currentTimeMillis() < deadline && countProcessing() < REQUEST_COUNT) {
+            Thread.sleep(200);
+        }
+
+        assertThat(receivedRequests.get()).isEqualTo(REQUEST_COUNT);
+        assertThat(countProcessing()).isEqualTo(REQUEST_COUNT);
+        assertThat(outboxEventRepository.findAll())
+            .noneMatch(event -> fairytaleIds.contains(event.getAggregateId()));
+    }
+
+    private long countProcessing() {
+        return fairytaleRepository.findAllById(fairytaleIds).stream()
+            .filter(fairytale -> fairytale.getStatus() == FairytaleStatus.PROCESSING)
+            .count();
+    }
+
+    private static HttpServer startStubLlmServer() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.createContext("/", exchange -> {
+                exchange.getRequestBody().readAllBytes();
+                try {
+                    Thread.sleep(LLM_LATENCY_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                receivedRequests.incrementAndGet();
+
+                byte[] body = "{\"success\":true,\"message\":\"accepted\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
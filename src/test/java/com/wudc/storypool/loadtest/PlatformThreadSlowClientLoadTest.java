@@ -0,0 +1,14 @@
+package com.wudc.storypool.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+@DisplayName("느린 클라이언트 부하 테스트 - 플랫폼 스레드")
+public class PlatformThreadSlowClientLoadTest extends SlowClientLoadTestSupport {
+
+    @Override
+    protected boolean expectVirtualThreads() {
+        return false;
+    }
+}
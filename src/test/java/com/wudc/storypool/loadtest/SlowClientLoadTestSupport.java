@@ -0,0 +1,162 @@
+package com.wudc.storypool.loadtest;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 느린 클라이언트(요청 본문을 조금씩 나눠 보내는 업로드) 동시 접속 시 처리 시간과 처리량을 비교하는 부하 테스트.
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행합니다.
+ * 동시 클라이언트 수의 2배 이상으로 파일 디스크립터 한도를 올려야 합니다. (예: ulimit -n 20000)
+ */
+@Tag("load")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "server.tomcat.accept-count=1000",
+        "server.tomcat.max-connections=10000"
+    }
+)
+@Import(SlowClientLoadTestSupport.LoadTestConfig.class)
+abstract class SlowClientLoadTestSupport {
+
+    private static final int CHUNK_COUNT = 8;
+    private static final int CHUNK_SIZE = 1024;
+    private static final long CHUNK_INTERVAL_MS = 250;
+
+    @LocalServerPort
+    private int port;
+
+    protected abstract boolean expectVirtualThreads();
+
+    @ParameterizedTest(name = "동시 클라이언트 {0}명")
+    @ValueSource(ints = {1_000, 5_000})
+    public void slowUploads(int clients) throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        URI uri = URI.create("http://localhost:" + port + "/load-test/upload");
+
+        long start = System.nanoTime();
+        List<Future<HttpResponse<String>>> responses = new ArrayList<>(clients);
+        try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clients; i++) {
+                responses.add(clientExecutor.submit(() -> httpClient.send(
+                    HttpRequest.newBuilder(uri)
+                        .timeout(Duration.ofMinutes(5))
+                        .header("Content-Type", "application/octet-stream")
+                        .POST(HttpRequest.BodyPublishers.ofInputStream(SlowInputStream::new))
+                        .build(),
+                    HttpResponse.BodyHandlers.ofString()
+                )));
+            }
+        }
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        int succeeded = 0;
+        for (Future<HttpResponse<String>> future : responses) {
+            HttpResponse<String> response = future.get();
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).isEqualTo(CHUNK_COUNT * CHUNK_SIZE + ":" + expectVirtualThreads());
+            succeeded++;
+        }
+
+        System.out.printf("[load-test] threads=%s clients=%d elapsed=%dms throughput=%.1f req/s%n",
+            expectVirtualThreads() ? "virtual" : "platform", clients, elapsedMs, succeeded * 1000.0 / elapsedMs);
+        assertThat(succeeded).isEqualTo(clients);
+    }
+
+    /**
+     * CHUNK_INTERVAL_MS 마다 CHUNK_SIZE 바이트씩 내보내는 요청 본문.
+     */
+    private static class SlowInputStream extends InputStream {
+
+        private int sentChunks;
+        private int positionInChunk = CHUNK_SIZE;
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0];
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (positionInChunk == CHUNK_SIZE) {
+                if (sentChunks == CHUNK_COUNT) {
+                    return -1;
+                }
+                try {
+                    Thread.sleep(CHUNK_INTERVAL_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+                sentChunks++;
+                positionInChunk = 0;
+            }
+            int count = Math.min(length, CHUNK_SIZE - positionInChunk);
+            Arrays.fill(buffer, offset, offset + count, (byte) 'a');
+            positionInChunk += count;
+            return count;
+        }
+    }
+
+    @TestConfiguration
+    @Import(LoadTestController.class)
+    static class LoadTestConfig {
+
+        @Bean
+        @Order(0)
+        public SecurityFilterChain loadTestFilterChain(HttpSecurity http) throws Exception {
+            return http.securityMatcher("/load-test/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+                .build();
+        }
+    }
+
+    @RestController
+    static class LoadTestController {
+
+        /**
+         * 요청 스레드에서 본문을 블로킹으로 끝까지 읽고, 읽은 바이트 수와 가상 스레드 여부를 반환합니다.
+         */
+        @PostMapping("/load-test/upload")
+        public String upload(HttpServletRequest request) throws IOException {
+            long read = request.getInputStream().transferTo(OutputStream.nullOutputStream());
+            return read + ":" + Thread.currentThread().isVirtual();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.wudc.storypool.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+@DisplayName("느린 클라이언트 부하 테스트 - 가상 스레드")
+public class VirtualThreadSlowClientLoadTest extends SlowClientLoadTestSupport {
+
+    @Override
+    protected boolean expectVirtualThreads() {
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.wudc.storypool.notification;
+
+import com.wudc.storypool.common.util.AuthUtil;
+import com.wudc.storypool.domain.notification.controller.response.UnreadCountResponse;
+import com.wudc.storypool.domain.notification.service.NotificationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("GET /api/notifications/unread-count 읽지 않은 알림 수 조회 테스트")
+public class GetUnreadCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @DisplayName("읽지 않은 알림 수 조회 성공")
+    @Test
+    public void getUnreadCountSuccess() throws Exception {
+        // given
+        try (var mockedAuthUtil = mockStatic(AuthUtil.class)) {
+            mockedAuthUtil.when(AuthUtil::getUserId).thenReturn("userId");
+            when(notificationService.getUnreadCount("userId")).thenReturn(new UnreadCountResponse(3));
+
+            // when & then
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/notifications/unread-count"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unreadCount").value(3));
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.wudc.storypool.notification;
+
+import com.wudc.storypool.domain.comment.service.CommentService;
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import com.wudc.storypool.domain.notification.service.NotificationFanout;
+import com.wudc.storypool.domain.notification.service.NotificationSettingsService;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.global.fcm.FcmService;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+// 주기 저장은 기동 직후 한 번만 돌도록 간격을 길게 두고, 테스트에서 flush 를 직접 호출
+@SpringBootTest(properties = "notification.flushIntervalMs=3600000")
+@DisplayName("알림 생성 엔진 테스트")
+public class NotificationFanoutTest {
+
+    @Autowired
+    private NotificationFanout notificationFanout;
+    @Autowired
+    private NotificationSettingsService notificationSettingsService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockitoBean
+    private FcmService fcmService;
+
+    private User author;
+    private User commenter;
+    private Post post;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        commenter = testUsers.create("commenter");
+        post = postRepository.save(Post.create(author.getId(), "title", "content", "fairytaleId", List.of("tag")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id IN (?, ?)", author.getId(), commenter.getId());
+        jdbcTemplate.update("DELETE FROM notification_settings WHERE user_id IN (?, ?)", author.getId(), commenter.getId());
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM post_like WHERE post_id = ?", post.getId());
+        postRepository.deleteById(post.getId());
+        testUsers.delete(author, commenter);
+    }
+
+    @DisplayName("댓글 작성 시 게시글 작성자에게 알림을 저장하고 푸시 발송 요청")
+    @Test
+    public void commentCreatesNotification() {
+        // when
+        commentService.createComment(commenter.getId(), post.getId(), null, "comment");
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).containsExactly(NotificationType.COMMENT_ON_POST.name());
+        verify(fcmService).sendNotificationToUser(eq(author.getId()), anyString(), anyString(),
+            eq(NotificationType.COMMENT_ON_POST.name()), eq(post.getId()), anyString());
+    }
+
+    @DisplayName("댓글 알림을 끈 사용자에게는 알림을 저장하지 않음")
+    @Test
+    public void commentNotificationFilteredBySettings() {
+        // given
+        notificationSettingsService.updateSettings(author.getId(), true, false, false, true, false, true);
+
+        // when
+        commentService.createComment(commenter.getId(), post.getId(), null, "comment");
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).isEmpty();
+        verify(fcmService, never()).sendNotificationToUser(any(), any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("좋아요 알림은 기본 설정에서 꺼져 있고, 켜면 저장")
+    @Test
+    public void likeNotificationFollowsSettings() {
+        // when
+        postService.toggleLike(commenter.getId(), post.getId());
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).isEmpty();
+
+        // given
+        notificationSettingsService.updateSettings(author.getId(), false, false, true, true, true, true);
+        postService.toggleLike(commenter.getId(), post.getId());
+
+        // when
+        postService.toggleLike(commenter.getId(), post.getId());
+        notificationFanout.flush();
+
+        // then (푸시는 꺼져 있으므로 발송 요청 없음)
+        assertThat(findNotificationTypes(author.getId())).containsExactly(NotificationType.LIKE_ON_POST.name());
+        verify(fcmService, never()).sendNotificationToUser(any(), any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("좋아요를 취소했다 다시 눌러도 알림은 한 번만 저장")
+    @Test
+    public void repeatedLikeNotifiesOnce() {
+        // given
+        notificationSettingsService.updateSettings(author.getId(), false, false, true, true, true, true);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            postService.toggleLike(commenter.getId(), post.getId());
+            if (i == 1) {
+                notificationFanout.flush();
+            }
+        }
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).containsExactly(NotificationType.LIKE_ON_POST.name());
+    }
+
+    @DisplayName("저장 전에 탈퇴한 수신자의 알림은 저장하지 않음")
+    @Test
+    public void withdrawnRecipientIsSkipped() {
+        // given
+        commentService.createComment(commenter.getId(), post.getId(), null, "comment");
+        jdbcTemplate.update("UPDATE user SET deleted = true WHERE id = ?", author.getId());
+
+        // when
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).isEmpty();
+        verify(fcmService, never()).sendNotificationToUser(any(), any(), any(), any(), any(), any());
+    }
+
+    @DisplayName("자기 게시글에 단 댓글은 알림을 만들지 않음")
+    @Test
+    public void selfCommentDoesNotNotify() {
+        // when
+        commentService.createComment(author.getId(), post.getId(), null, "comment");
+        notificationFanout.flush();
+
+        // then
+        assertThat(findNotificationTypes(author.getId())).isEmpty();
+    }
+
+    private List<String> findNotificationTypes(String userId) {
+        return jdbcTemplate.queryForList("SELECT type FROM notification WHERE user_id = ?", String.class, userId);
+    }
+}
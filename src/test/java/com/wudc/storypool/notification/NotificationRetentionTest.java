@@ -0,0 +1,177 @@
+package com.wudc.storypool.notification;
+
+import com.wudc.storypool.domain.notification.entity.constant.NotificationType;
+import com.wudc.storypool.domain.notification.service.NotificationRetentionService;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.support.TestUsers;
+import de.huxhorn.sulky.ulid.ULID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "notification.retention.initialDelayMs=3600000",
+    "notification.retention.chunkSize=3",
+    "notification.retention.chunkPauseMs=0",
+    "notification.retention.maxPerUser=5",
+    "notification.retention.defaultTtlDays=90",
+    "notification.retention.ttlDays.LIKE_ON_POST=30"
+})
+@DisplayName("알림 보관 기간 정리 테스트")
+public class NotificationRetentionTest {
+
+    private static final String LOCK_KEY = "notification:retention:lock";
+
+    @Autowired
+    private NotificationRetentionService notificationRetentionService;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private final ULID ulid = new ULID();
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        user = testUsers.create("user");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId());
+        testUsers.delete(user);
+    }
+
+    @DisplayName("유형별 보관 기간이 지난 알림만 나눠서 삭제")
+    @Test
+    public void purgeExpiredByType() {
+        // given
+        insert(NotificationType.LIKE_ON_POST, 40, 4);      // 30일 지남 → 삭제
+        insert(NotificationType.COMMENT_ON_POST, 40, 2);   // 90일 이내 → 유지
+        insert(NotificationType.COMMENT_ON_POST, 100, 4);  // 90일 지남 → 삭제
+
+        // when
+        notificationRetentionService.purge();
+
+        // then
+        assertThat(countByType()).containsOnly(Map.entry(NotificationType.COMMENT_ON_POST.name(), 2L));
+        @SuppressWarnings("unchecked")
+        Map<String, Long> deleted = (Map<String, Long>) notificationRetentionService.progress().get("deletedByType");
+        assertThat(deleted.get(NotificationType.LIKE_ON_POST.name())).isGreaterThanOrEqualTo(4);
+        assertThat(deleted.get(NotificationType.COMMENT_ON_POST.name())).isGreaterThanOrEqualTo(4);
+    }
+
+    @DisplayName("알림이 maxPerUser 개를 넘는 사용자는 최신 알림만 남김")
+    @Test
+    public void compactHeavyUser() {
+        // given
+        insert(NotificationType.COMMENT_ON_POST, 0, 8);
+        notificationRetentionService.recordRecipients(List.of(user.getId()));
+
+        // when
+        notificationRetentionService.purge();
+
+        // then
+        List<String> remaining = jdbcTemplate.queryForList(
+            "SELECT id FROM notification WHERE user_id = ? ORDER BY created_at DESC, id DESC", String.class, user.getId());
+        assertThat(remaining).hasSize(5);
+    }
+
+    @DisplayName("탈퇴한 사용자의 알림은 묶음 크기와 관계없이 모두 삭제")
+    @Test
+    public void deleteAllForWithdrawnUser() {
+        // given
+        User other = testUsers.create("other");
+        insert(NotificationType.COMMENT_ON_POST, 0, 7);
+        jdbcTemplate.update(
+            "INSERT INTO notification (id, user_id, type, message, target_id, is_read, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 'message', NULL, false, NOW(6), NOW(6))",
+            ulid.nextULID(), other.getId(), NotificationType.COMMENT_ON_POST.name());
+
+        try {
+            // when
+            long deleted = notificationRetentionService.deleteAllForUser(user.getId());
+
+            // then
+            assertThat(deleted).isEqualTo(7);
+            assertThat(countByType()).isEmpty();
+            assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification WHERE user_id = ?", Long.class, other.getId())).isEqualTo(1);
+        } finally {
+            jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", other.getId());
+            testUsers.delete(other);
+        }
+    }
+
+    @DisplayName("예약 실행은 전용 스레드에서 돌고, 끝나면 자기 잠금만 해제")
+    @Test
+    public void scheduledPurgeRunsOffSchedulerThread() throws InterruptedException {
+        // given
+        insert(NotificationType.LIKE_ON_POST, 40, 4);
+        Instant before = Instant.now();
+
+        // when
+        notificationRetentionService.schedulePurge();
+
+        // then
+        long deadline = System.currentTimeMillis() + Duration.ofSeconds(10).toMillis();
+        while (!isFinishedAfter(before) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(isFinishedAfter(before)).isTrue();
+        assertThat(countByType()).isEmpty();
+        assertThat(stringRedisTemplate.hasKey(LOCK_KEY)).isFalse();
+
+        // 다른 노드가 잡은 잠금은 건드리지 않음
+        stringRedisTemplate.opsForValue().set(LOCK_KEY, "other-node", Duration.ofMinutes(1));
+        try {
+            notificationRetentionService.purge();
+            assertThat(stringRedisTemplate.opsForValue().get(LOCK_KEY)).isEqualTo("other-node");
+        } finally {
+            stringRedisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    private boolean isFinishedAfter(Instant instant) {
+        Instant finishedAt = (Instant) notificationRetentionService.progress().get("lastFinishedAt");
+        return finishedAt != null && finishedAt.isAfter(instant);
+    }
+
+    private void insert(NotificationType type, int daysAgo, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO notification (id, user_id, type, message, target_id, is_read, created_at, updated_at) " +
+                "VALUES (?, ?, ?, 'message', NULL, false, NOW(6) - INTERVAL ? DAY, NOW(6))",
+                ulid.nextULID(), user.getId(), type.name(), daysAgo);
+        }
+    }
+
+    private Map<String, Long> countByType() {
+        return jdbcTemplate.query(
+            "SELECT type, COUNT(*) FROM notification WHERE user_id = ? GROUP BY type",
+            rs -> {
+                Map<String, Long> counts = new HashMap<>();
+                while (rs.next()) {
+                    counts.put(rs.getString(1), rs.getLong(2));
+                }
+                return counts;
+            },
+            user.getId());
+    }
+}
@@ -0,0 +1,96 @@
+package com.wudc.storypool.notification;
+
+import com.wudc.storypool.domain.comment.service.CommentService;
+import com.wudc.storypool.domain.notification.service.NotificationFanout;
+import com.wudc.storypool.domain.notification.service.NotificationService;
+import com.wudc.storypool.domain.notification.service.UnreadNotificationCounter;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.global.fcm.FcmService;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "notification.flushIntervalMs=3600000",
+    "notification.unreadCount.reconcileIntervalMs=3600000"
+})
+@DisplayName("읽지 않은 알림 수 카운터 테스트")
+public class UnreadNotificationCounterTest {
+
+    @Autowired
+    private UnreadNotificationCounter unreadNotificationCounter;
+    @Autowired
+    private NotificationFanout notificationFanout;
+    @Autowired
+    private NotificationService notificationService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockitoBean
+    private FcmService fcmService;
+
+    private User author;
+    private User commenter;
+    private Post post;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        commenter = testUsers.create("commenter");
+        post = postRepository.save(Post.create(author.getId(), "title", "content", "fairytaleId", List.of("tag")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", author.getId());
+        jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", post.getId());
+        postRepository.deleteById(post.getId());
+        testUsers.delete(author, commenter);
+    }
+
+    @DisplayName("알림 저장 시 증가, 읽음/삭제 시 감소하고 보정 후에도 DB 값과 일치")
+    @Test
+    public void counterFollowsNotificationLifecycle() {
+        // 처음 조회 시 DB 에서 채움
+        assertThat(unreadNotificationCounter.get(author.getId())).isZero();
+
+        // 알림 3건 저장
+        for (int i = 0; i < 3; i++) {
+            commentService.createComment(commenter.getId(), post.getId(), null, "comment" + i);
+        }
+        notificationFanout.flush();
+        assertThat(notificationService.getUnreadCount(author.getId()).unreadCount()).isEqualTo(3);
+
+        // 1건 읽음, 1건 삭제 (읽지 않은 알림)
+        List<String> ids = jdbcTemplate.queryForList(
+            "SELECT id FROM notification WHERE user_id = ? ORDER BY id", String.class, author.getId());
+        notificationService.markNotificationsAsRead(author.getId(), List.of(ids.get(0)));
+        notificationService.deleteNotification(author.getId(), ids.get(1));
+        assertThat(unreadNotificationCounter.get(author.getId())).isEqualTo(1);
+
+        // 이미 읽은 알림을 다시 읽음 처리해도 변화 없음
+        notificationService.markNotificationsAsRead(author.getId(), List.of(ids.get(0)));
+        assertThat(unreadNotificationCounter.get(author.getId())).isEqualTo(1);
+
+        // 보정 후에도 DB 값과 같음
+        unreadNotificationCounter.reconcile();
+        assertThat(unreadNotificationCounter.get(author.getId())).isEqualTo(1);
+    }
+}
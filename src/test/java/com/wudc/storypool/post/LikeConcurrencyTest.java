@@ -0,0 +1,205 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.comment.entity.Comment;
+import com.wudc.storypool.domain.comment.repository.CommentLikeRepository;
+import com.wudc.storypool.domain.comment.repository.CommentRepository;
+import com.wudc.storypool.domain.comment.service.CommentService;
+import com.wudc.storypool.domain.fairytale.entity.Fairytale;
+import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.LikeRepository;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("좋아요 동시 토글 테스트")
+public class LikeConcurrencyTest {
+
+    private static final int TOGGLE_COUNT = 1_000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private LikeRepository likeRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+    @Autowired
+    private FairytaleRepository fairytaleRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private List<User> likers;
+    private Post post;
+    private Comment comment;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        likers = testUsers.create("liker", TOGGLE_COUNT);
+        post = postRepository.save(Post.create(author.getId(), "title", "content", "fairytaleId", List.of()));
+        comment = commentRepository.save(Comment.createComment(author.getId(), post.getId(), "content"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM comment_like WHERE comment_id = ?", comment.getId());
+        jdbcTemplate.update("DELETE FROM post_like WHERE post_id = ?", post.getId());
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", author.getId());
+        commentRepository.deleteById(comment.getId());
+        postRepository.deleteById(post.getId());
+        testUsers.delete(likers);
+        testUsers.delete(author);
+    }
+
+    @DisplayName("게시글 좋아요 1,000건 동시 추가 후 동시 취소")
+    @Test
+    public void togglePostLikeConcurrently() throws Exception {
+        runConcurrently(index -> postService.toggleLike(likers.get(index).getId(), post.getId()));
+
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(TOGGLE_COUNT);
+        assertThat(likeRepository.countByPostId(post.getId())).isEqualTo(TOGGLE_COUNT);
+
+        runConcurrently(index -> postService.toggleLike(likers.get(index).getId(), post.getId()));
+
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isZero();
+        assertThat(likeRepository.countByPostId(post.getId())).isZero();
+    }
+
+    @DisplayName("댓글 좋아요 1,000건 동시 추가 후 동시 취소")
+    @Test
+    public void toggleCommentLikeConcurrently() throws Exception {
+        runConcurrently(index -> commentService.toggleLike(likers.get(index).getId(), comment.getId()));
+
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getLikeCount()).isEqualTo(TOGGLE_COUNT);
+        assertThat(commentLikeRepository.countByCommentId(comment.getId())).isEqualTo(TOGGLE_COUNT);
+
+        runConcurrently(index -> commentService.toggleLike(likers.get(index).getId(), comment.getId()));
+
+        assertThat(commentRepository.findById(comment.getId()).orElseThrow().getLikeCount()).isZero();
+        assertThat(commentLikeRepository.countByCommentId(comment.getId())).isZero();
+    }
+
+    @DisplayName("한 사용자가 게시글 좋아요를 동시에 여러 번 토글해도 좋아요 행과 좋아요 수가 일치 (0 또는 1)")
+    @Test
+    public void sameUserTogglesPostLikeConcurrently() throws Exception {
+        String userId = likers.get(0).getId();
+
+        // 같은 행을 두고 경합하므로 데드락으로 롤백되는 요청은 허용 (롤백된 요청은 아무것도 바꾸지 않음)
+        int succeeded = runConcurrentlyAllowingLockFailures(index -> postService.toggleLike(userId, post.getId()));
+        assertThat(succeeded).isPositive();
+
+        long likeCount = postRepository.findById(post.getId()).orElseThrow().getLikeCount();
+        long rows = likeRepository.countByPostId(post.getId());
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(likeCount).isEqualTo(rows);
+    }
+
+    @DisplayName("한 사용자가 댓글 좋아요를 동시에 여러 번 토글해도 좋아요 행과 좋아요 수가 일치 (0 또는 1)")
+    @Test
+    public void sameUserTogglesCommentLikeConcurrently() throws Exception {
+        String userId = likers.get(0).getId();
+
+        // 같은 행을 두고 경합하므로 데드락으로 롤백되는 요청은 허용 (롤백된 요청은 아무것도 바꾸지 않음)
+        int succeeded = runConcurrentlyAllowingLockFailures(index -> commentService.toggleLike(userId, comment.getId()));
+        assertThat(succeeded).isPositive();
+
+        long likeCount = commentRepository.findById(comment.getId()).orElseThrow().getLikeCount();
+        long rows = commentLikeRepository.countByCommentId(comment.getId());
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(likeCount).isEqualTo(rows);
+    }
+
+    @DisplayName("게시글 수정은 수정 중에 반영된 좋아요 수를 덮어쓰지 않음")
+    @Test
+    public void updateKeepsConcurrentLikeCount() {
+        Fairytale fairytale = fairytaleRepository.save(Fairytale.create(author.getId(), "storyId", "fairytale"));
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                // 좋아요 전 값(0)을 영속성 컨텍스트에 읽어 둔 뒤, 다른 트랜잭션에서 좋아요를 커밋
+                postRepository.findById(post.getId()).orElseThrow();
+                CompletableFuture.runAsync(() -> postService.toggleLike(likers.get(0).getId(), post.getId())).join();
+
+                postService.updatePost(author.getId(), post.getId(), "new title", "new content", fairytale.getId(), List.of());
+            });
+
+            Post updated = postRepository.findById(post.getId()).orElseThrow();
+            assertThat(updated.getTitle()).isEqualTo("new title");
+            assertThat(updated.getLikeCount()).isEqualTo(1);
+        } finally {
+            fairytaleRepository.deleteById(fairytale.getId());
+        }
+    }
+
+    private int runConcurrentlyAllowingLockFailures(Consumer<Integer> toggle) throws Exception {
+        AtomicInteger succeeded = new AtomicInteger();
+        runConcurrently(index -> {
+            try {
+                toggle.accept(index);
+                succeeded.incrementAndGet();
+            } catch (ConcurrencyFailureException e) {
+                // 롤백됨
+            }
+        });
+        return succeeded.get();
+    }
+
+    private void runConcurrently(Consumer<Integer> toggle) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < TOGGLE_COUNT; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    toggle.accept(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.fairytale.entity.Fairytale;
+import com.wudc.storypool.domain.fairytale.entity.FairytaleePage;
+import com.wudc.storypool.domain.fairytale.repository.FairytaleRepository;
+import com.wudc.storypool.domain.post.controller.response.PostDetailResponse;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.support.TestUsers;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("게시글 상세 조회 2차 캐시 테스트")
+public class PostDetailCacheTest {
+
+    private static final int PAGE_COUNT = 10;
+    private static final int WARM_ITERATIONS = 100;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private FairytaleRepository fairytaleRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private Fairytale fairytale;
+    private Post post;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+
+        Fairytale created = Fairytale.create(author.getId(), "storyId", "fairytale");
+        List<FairytaleePage> pages = new ArrayList<>();
+        for (int i = 0; i < PAGE_COUNT; i++) {
+            pages.add(FairytaleePage.create(created, i, "mood", "story " + i, "https://image.url/" + i + ".png"));
+        }
+        created.completeGeneration(pages);
+        fairytale = fairytaleRepository.save(created);
+
+        post = postRepository.save(Post.create(author.getId(), "title", "content", fairytale.getId(), List.of()));
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        postRepository.deleteById(post.getId());
+        fairytaleRepository.deleteById(fairytale.getId());
+        testUsers.delete(author);
+        sessionFactory().getCache().evictAllRegions();
+    }
+
+    @DisplayName("캐시가 채워진 뒤에는 작성자/동화/페이지를 DB 에서 다시 읽지 않음")
+    @Test
+    public void warmReadSkipsCachedEntities() {
+        Statistics statistics = sessionFactory().getStatistics();
+
+        statistics.clear();
+        long coldStart = System.nanoTime();
+        PostDetailResponse cold = postService.getPostDetail("viewerId", post.getId());
+        long coldNanos = System.nanoTime() - coldStart;
+        long coldQueries = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long warmStart = System.nanoTime();
+        PostDetailResponse warm = null;
+        for (int i = 0; i < WARM_ITERATIONS; i++) {
+            warm = postService.getPostDetail("viewerId", post.getId());
+        }
+        long warmNanos = (System.nanoTime() - warmStart) / WARM_ITERATIONS;
+        long warmQueries = statistics.getPrepareStatementCount() / WARM_ITERATIONS;
+
+        System.out.printf("GET /api/posts/{id} cold: %d queries %.2fms, warm: %d queries %.2fms%n",
+            coldQueries, coldNanos / 1_000_000.0, warmQueries, warmNanos / 1_000_000.0);
+
+        assertThat(warm.fairytale().pageList()).hasSize(PAGE_COUNT);
+        assertThat(warm.fairytale().pageList()).isEqualTo(cold.fairytale().pageList());
+        // 게시글 조회 + 좋아요 여부 조회만 남음
+        assertThat(warmQueries).isEqualTo(2);
+        assertThat(warmQueries).isLessThan(coldQueries);
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+        assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isEqualTo(WARM_ITERATIONS);
+        assertThat(statistics.getDomainDataRegionStatistics("fairytale").getHitCount()).isEqualTo(WARM_ITERATIONS);
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,102 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostFeedCache;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.support.TestUsers;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("게시글 목록 캐시 테스트")
+public class PostFeedCacheTest {
+
+    private static final int LIMIT = 5;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostFeedCache postFeedCache;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private final List<String> createdPostIds = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        for (int i = 0; i < LIMIT; i++) {
+            Post post = postRepository.save(Post.create(author.getId(), "title" + i, "content", "fairytaleId", List.of("tag")));
+            createdPostIds.add(post.getId());
+        }
+        postFeedCache.invalidate();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        postRepository.deleteAllById(createdPostIds);
+        createdPostIds.clear();
+        testUsers.delete(author);
+        postFeedCache.invalidate();
+    }
+
+    @DisplayName("두 번째 요청부터는 공용 목록을 캐시에서 읽고 사용자별 값만 조회")
+    @Test
+    public void sharedPageIsCachedAndViewerFlagsAreOverlaid() {
+        Statistics statistics = statistics();
+
+        statistics.clear();
+        PostListResponse authorView = postService.getPostsList(author.getId(), "latest", null, null, LIMIT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(authorView.posts()).allSatisfy(item -> assertThat(item.isMyPost()).isTrue());
+
+        statistics.clear();
+        PostListResponse otherView = postService.getPostsList("otherUserId", "latest", null, null, LIMIT);
+        // 좋아요 여부 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(otherView.posts()).extracting(PostListResponse.PostItem::id)
+            .containsExactlyElementsOf(authorView.posts().stream().map(PostListResponse.PostItem::id).toList());
+        assertThat(otherView.posts()).allSatisfy(item -> assertThat(item.isMyPost()).isFalse());
+
+        statistics.clear();
+        postService.getPostsList(null, "latest", null, null, LIMIT);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @DisplayName("무효화 후에는 새 게시글이 목록에 반영")
+    @Test
+    public void invalidateRefreshesPage() {
+        postService.getPostsList(null, "latest", null, null, LIMIT);
+
+        Post post = postRepository.save(Post.create(author.getId(), "new", "content", "fairytaleId", List.of("tag")));
+        createdPostIds.add(post.getId());
+        postFeedCache.invalidate();
+
+        PostListResponse response = postService.getPostsList(null, "latest", null, null, LIMIT);
+        assertThat(response.posts().get(0).id()).isEqualTo(post.getId());
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,75 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("게시글 목록 조회 쿼리 수 테스트")
+public class PostListQueryCountTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<String> createdPostIds = new ArrayList<>();
+
+    @AfterEach
+    public void tearDown() {
+        postRepository.deleteAllById(createdPostIds);
+        createdPostIds.clear();
+    }
+
+    @DisplayName("페이지 크기와 태그 수에 관계없이 쿼리 수가 일정")
+    @Test
+    public void queryCountIsConstant() {
+        createPosts(5, 1);
+        long smallPageQueries = countQueries(5);
+
+        createPosts(30, 5);
+        long largePageQueries = countQueries(30);
+
+        assertThat(largePageQueries).isEqualTo(smallPageQueries);
+        // 목록 조회 1회 + 부가 정보 조회 1회
+        assertThat(largePageQueries).isLessThanOrEqualTo(2);
+    }
+
+    private long countQueries(int limit) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PostListResponse response = postService.getPostsList("viewerId", "latest", null, null, limit);
+        assertThat(response.posts()).hasSize(limit);
+        assertThat(response.posts()).allSatisfy(item -> assertThat(item.tags()).isNotEmpty());
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private void createPosts(int count, int tagsPerPost) {
+        for (int i = 0; i < count; i++) {
+            List<String> tags = new ArrayList<>();
+            for (int t = 0; t < tagsPerPost; t++) {
+                tags.add("tag" + t);
+            }
+            Post post = postRepository.save(Post.create("authorId", "title" + i, "content", "fairytaleId", tags));
+            createdPostIds.add(post.getId());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import com.wudc.storypool.domain.post.service.PostService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "ratelimit.enabled=true",
+    "ratelimit.routes.POST_SEARCH.capacity=2",
+    "ratelimit.routes.POST_SEARCH.refillPerMinute=1"
+})
+@AutoConfigureMockMvc
+@DisplayName("게시글 검색 요청 횟수 제한 테스트")
+public class PostSearchRateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @MockitoBean
+    private PostService postService;
+
+    // 다른 테스트 실행과 버킷이 겹치지 않도록 매번 다른 IP 사용
+    private final String clientIp = "10.0." + ThreadLocalRandom.current().nextInt(256) + "." + ThreadLocalRandom.current().nextInt(256);
+    private final String otherClientIp = "10.1." + ThreadLocalRandom.current().nextInt(256) + "." + ThreadLocalRandom.current().nextInt(256);
+
+    @AfterEach
+    public void tearDown() {
+        stringRedisTemplate.delete(Set.of(
+            "ratelimit:post_search:ip:" + clientIp,
+            "ratelimit:post_search:ip:" + otherClientIp));
+    }
+
+    @DisplayName("버킷을 다 쓰면 429 와 Retry-After 를 반환하고, 다른 IP 와 검색어 없는 목록 조회는 영향 없음")
+    @Test
+    public void rejectsAfterBucketIsEmpty() throws Exception {
+        when(postService.getPostsList(isNull(), anyString(), any(), any(), anyInt()))
+            .thenReturn(new PostListResponse(List.of(), false, null));
+
+        mockMvc.perform(search(clientIp, "keyword")).andExpect(notRateLimited());
+        mockMvc.perform(search(clientIp, "keyword")).andExpect(notRateLimited());
+
+        mockMvc.perform(search(clientIp, "keyword"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andExpect(jsonPath("$.error").exists());
+        // 로컬 캐시에서 바로 거절
+        mockMvc.perform(search(clientIp, "keyword")).andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(search(otherClientIp, "keyword")).andExpect(notRateLimited());
+        mockMvc.perform(search(clientIp, null)).andExpect(notRateLimited());
+    }
+
+    // 인증 여부와 관계없이 제한에 걸리지 않았는지만 확인
+    private ResultMatcher notRateLimited() {
+        return result -> assertThat(result.getResponse().getStatus()).isNotEqualTo(429);
+    }
+
+    private MockHttpServletRequestBuilder search(String remoteAddr, String keyword) {
+        MockHttpServletRequestBuilder builder = MockMvcRequestBuilders.get("/api/posts")
+            .with(request -> {
+                request.setRemoteAddr(remoteAddr);
+                return request;
+            });
+        return keyword != null ? builder.param("keyword", keyword) : builder;
+    }
+}
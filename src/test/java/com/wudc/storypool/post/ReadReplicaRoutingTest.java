@@ -0,0 +1,190 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.user.entity.constant.UserRole;
+import com.wudc.storypool.global.datasource.ReplicaDataSourceProperties;
+import com.wudc.storypool.global.datasource.ReplicaLagMonitor;
+import com.wudc.storypool.global.datasource.ReplicaRoutingDataSource;
+import com.wudc.storypool.global.security.principal.PrincipalDetails;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 복제본 두 개를 설정해 확인합니다. replica-1 은 같은 로컬 MySQL(복제 지연 0 인 복제본 역할),
+ * replica-2 는 열려 있지 않은 포트라 상태 확인에서 제외되어야 합니다.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.enabled=true",
+    "datasource.replica.urls=${spring.datasource.url},jdbc:mysql://127.0.0.1:1/storypool",
+    "datasource.replica.minimumIdle=0",
+    "datasource.replica.healthCheckIntervalMs=3600000",
+    "datasource.replica.stickyMs=60000"
+})
+@DisplayName("읽기 전용 트랜잭션 복제본 라우팅 테스트")
+public class ReadReplicaRoutingTest {
+
+    @Autowired
+    private ReplicaRoutingDataSource routingDataSource;
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @BeforeEach
+    public void setUp() {
+        replicaLagMonitor.monitor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 정상 복제본으로, 쓰기 트랜잭션은 기본 DB 로")
+    @Test
+    public void routesByTransactionType() {
+        assertThat(replica("replica-1").isHealthy()).isTrue();
+        assertThat(replica("replica-2").isHealthy()).isFalse();
+
+        double readsBefore = routed("replica-1", "read");
+        double downBefore = routed("replica-2", "read");
+        double writesBefore = routed(ReplicaRoutingDataSource.PRIMARY, "write");
+
+        for (int i = 0; i < 4; i++) {
+            query(true);
+        }
+        query(false);
+
+        // 스케줄러 작업도 같은 지표를 올리므로 최소 횟수로 비교
+        assertThat(routed("replica-1", "read") - readsBefore).isGreaterThanOrEqualTo(4);
+        assertThat(routed("replica-2", "read") - downBefore).isZero();
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY, "write") - writesBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("쓰기를 커밋한 사용자의 이후 읽기는 기본 DB 로")
+    @Test
+    public void readsOwnWritesAfterCommit() {
+        SecurityContextHolder.getContext().setAuthentication(authentication(UUID.randomUUID().toString()));
+        double stickyBefore = routed(ReplicaRoutingDataSource.PRIMARY, "sticky");
+
+        query(false);
+        query(true);
+
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY, "sticky") - stickyBefore).isEqualTo(1);
+
+        // 다른 사용자는 그대로 복제본에서 읽음
+        SecurityContextHolder.getContext().setAuthentication(authentication(UUID.randomUUID().toString()));
+        double readsBefore = routed("replica-1", "read");
+        query(true);
+        assertThat(routed("replica-1", "read") - readsBefore).isGreaterThanOrEqualTo(1);
+    }
+
+    @DisplayName("복제 지연이 허용치를 넘으면 기본 DB 에서 읽고, 따라잡으면 다시 복제본으로")
+    @Test
+    public void fallsBackWhenReplicaLags() {
+        replicaLagMonitor.beat();
+        jdbcTemplate.update("UPDATE replication_heartbeat SET beat_at = NOW(6) - INTERVAL 60 SECOND WHERE id = 1");
+        replicaLagMonitor.checkReplicas();
+
+        assertThat(replica("replica-1").isHealthy()).isFalse();
+        assertThat(replica("replica-1").getLagMs()).isGreaterThanOrEqualTo(60_000);
+
+        double fallbackBefore = routed(ReplicaRoutingDataSource.PRIMARY, "fallback");
+        query(true);
+        assertThat(routed(ReplicaRoutingDataSource.PRIMARY, "fallback") - fallbackBefore).isGreaterThanOrEqualTo(1);
+
+        replicaLagMonitor.monitor();
+        assertThat(replica("replica-1").isHealthy()).isTrue();
+    }
+
+    @DisplayName("상태 확인이 간격의 3배 넘게 멈추면 마지막 결과가 정상이어도 제외")
+    @Test
+    public void staleCheckMarksReplicaUnhealthy() throws InterruptedException {
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties();
+        properties.setHealthCheckIntervalMs(50);
+        ReplicaRoutingDataSource.Replica replica =
+            new ReplicaRoutingDataSource.Replica("replica-stale", replica("replica-1").getDataSource(), 50);
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            primaryDataSource, List.of(replica), properties, new SimpleMeterRegistry());
+        // initialize 를 부르지 않으므로 주기 확인 없이 직접 확인
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(dataSource, primaryDataSource, properties);
+
+        monitor.beat();
+        monitor.checkReplicas();
+        assertThat(replica.isHealthy()).isTrue();
+
+        Thread.sleep(300);
+        assertThat(replica.isHealthy()).isFalse();
+
+        monitor.checkReplicas();
+        assertThat(replica.isHealthy()).isTrue();
+    }
+
+    @DisplayName("OSIV 처럼 한 세션에서 읽기 전용 트랜잭션 뒤에 쓰기 트랜잭션이 와도 기본 DB 로")
+    @Test
+    public void sharedSessionRoutesEachTransaction() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            // 복제본 풀은 읽기 전용이므로 1, 기본 DB 의 쓰기 트랜잭션이면 0
+            assertThat(query(true)).isEqualTo(1);
+            assertThat(query(false)).isZero();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            entityManager.close();
+        }
+    }
+
+    private Integer query(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+            jdbcTemplate.queryForObject("SELECT @@session.transaction_read_only", Integer.class));
+    }
+
+    private ReplicaRoutingDataSource.Replica replica(String name) {
+        return routingDataSource.getReplicas().stream()
+            .filter(replica -> replica.getName().equals(name))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private double routed(String target, String reason) {
+        Counter counter = meterRegistry.find("datasource.routing").tags("target", target, "reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String userId) {
+        PrincipalDetails principal = new PrincipalDetails(userId, userId + "@storypool.test", UserRole.USER);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
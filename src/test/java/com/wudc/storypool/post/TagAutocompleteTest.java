@@ -0,0 +1,73 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.common.util.AuthUtil;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.post.service.TagIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("GET /api/posts/tags/autocomplete 태그 자동완성 테스트")
+public class TagAutocompleteTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @MockitoBean
+    private PostService postService;
+
+    @DisplayName("태그 자동완성 성공")
+    @Test
+    public void autocompleteSuccess() throws Exception {
+        // given
+        try (var mockedAuthUtil = mockStatic(AuthUtil.class)) {
+            mockedAuthUtil.when(AuthUtil::getUserId).thenReturn("userId");
+
+            when(postService.autocompleteTags("동", 10)).thenReturn(List.of(
+                new TagIndex.TagCount("동물", 12),
+                new TagIndex.TagCount("동화", 3)
+            ));
+
+            // when & then
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/tags/autocomplete")
+                    .param("prefix", "동"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags[0].tag").value("동물"))
+                .andExpect(jsonPath("$.tags[0].postCount").value(12))
+                .andExpect(jsonPath("$.tags[1].tag").value("동화"));
+        }
+    }
+
+    @DisplayName("limit 최대값 제한")
+    @Test
+    public void autocompleteLimitClamped() throws Exception {
+        // given
+        try (var mockedAuthUtil = mockStatic(AuthUtil.class)) {
+            mockedAuthUtil.when(AuthUtil::getUserId).thenReturn("userId");
+
+            when(postService.autocompleteTags("동", 20)).thenReturn(List.of());
+
+            // when & then
+            mockMvc.perform(MockMvcRequestBuilders.get("/api/posts/tags/autocomplete")
+                    .param("prefix", "동")
+                    .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags").isEmpty());
+        }
+    }
+}
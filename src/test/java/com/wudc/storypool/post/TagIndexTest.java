@@ -0,0 +1,133 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.service.TagIndex;
+import de.huxhorn.sulky.ulid.ULID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("태그 역색인 테스트")
+public class TagIndexTest {
+
+    private static final ULID ULID_GENERATOR = new ULID();
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TagIndex tagIndex = new TagIndex(jdbcTemplate);
+
+    // 작성 순서대로 (post1 이 가장 오래됨)
+    private final String post1 = postId(1_000);
+    private final String post2 = postId(2_000);
+    private final String post3 = postId(3_000);
+    private final String post4 = postId(4_000);
+
+    private final List<String[]> rows = new ArrayList<>();
+    private Runnable duringRebuild = () -> {};
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        doAnswer(invocation -> {
+            duringRebuild.run();
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getString(1)).thenReturn(row[0]);
+                when(rs.getString(2)).thenReturn(row[1]);
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+
+        row(post1, "Cat");
+        row(post1, "dog");
+        row(post2, "cat");
+        row(post3, "cat");
+        row(post3, "dog");
+        row(post4, "dog");
+        tagIndex.rebuild();
+    }
+
+    @DisplayName("여러 태그는 모두 가진 게시글만 최신순으로")
+    @Test
+    public void intersectionNewestFirst() {
+        assertThat(tagIndex.findPostIds(List.of("cat"), null, 10)).containsExactly(post3, post2, post1);
+        assertThat(tagIndex.findPostIds(List.of("CAT", " dog "), null, 10)).containsExactly(post3, post1);
+        assertThat(tagIndex.findPostIds(List.of("cat", "bird"), null, 10)).isEmpty();
+    }
+
+    @DisplayName("커서 다음부터 limit 개씩 이어서 조회")
+    @Test
+    public void cursorPaging() {
+        List<String> first = tagIndex.findPostIds(List.of("cat"), null, 2);
+        List<String> second = tagIndex.findPostIds(List.of("cat"), first.get(first.size() - 1), 2);
+
+        assertThat(first).containsExactly(post3, post2);
+        assertThat(second).containsExactly(post1);
+        assertThat(tagIndex.findPostIds(List.of("cat"), post1, 2)).isEmpty();
+    }
+
+    @DisplayName("색인에 없는 커서는 ULID 순서상 그보다 오래된 게시글부터, 형식이 틀리면 빈 결과")
+    @Test
+    public void unknownCursor() {
+        String between = postId(2_500);
+
+        assertThat(tagIndex.findPostIds(List.of("cat"), between, 10)).containsExactly(post2, post1);
+        assertThat(tagIndex.findPostIds(List.of("cat"), postId(9_000), 10)).containsExactly(post3, post2, post1);
+        assertThat(tagIndex.findPostIds(List.of("cat"), "not-a-ulid", 10)).isEmpty();
+    }
+
+    @DisplayName("수정으로 처음 태그가 붙은 기존 게시글도 작성 순서 위치에 들어감")
+    @Test
+    public void insertsOlderPostInOrder() {
+        String older = postId(1_500);
+        tagIndex.onPostSaved(older, List.of(), List.of("cat", "dog"));
+
+        assertThat(tagIndex.findPostIds(List.of("cat"), null, 10)).containsExactly(post3, post2, older, post1);
+        assertThat(tagIndex.findPostIds(List.of("dog"), null, 10)).containsExactly(post4, post3, older, post1);
+        assertThat(tagIndex.findPostIds(List.of("cat"), post2, 10)).containsExactly(older, post1);
+    }
+
+    @DisplayName("재구성 중 이 노드에서 생긴 변경은 새 색인에도 반영")
+    @Test
+    public void replaysJournalDuringRebuild() {
+        String created = postId(5_000);
+        duringRebuild = () -> {
+            tagIndex.onPostSaved(created, List.of(), List.of("cat"));
+            tagIndex.onPostDeleted(post2, List.of("cat"));
+        };
+
+        tagIndex.rebuild();
+
+        assertThat(tagIndex.findPostIds(List.of("cat"), null, 10)).containsExactly(created, post3, post1);
+    }
+
+    @DisplayName("자동완성은 게시글 수가 많은 태그 순")
+    @Test
+    public void autocomplete() {
+        row(post2, "candy");
+        tagIndex.rebuild();
+
+        assertThat(tagIndex.autocomplete("ca", 10))
+            .containsExactly(new TagIndex.TagCount("Cat", 3), new TagIndex.TagCount("candy", 1));
+    }
+
+    private void row(String postId, String tag) {
+        rows.add(new String[]{postId, tag});
+    }
+
+    private static String postId(long timestamp) {
+        return ULID_GENERATOR.nextULID(timestamp);
+    }
+}
@@ -0,0 +1,82 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.controller.response.PostListResponse;
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.post.service.PostService;
+import com.wudc.storypool.domain.post.service.TagIndex;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("태그별 게시글 목록 테스트")
+public class TagPostListTest {
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TagIndex tagIndex;
+    @Autowired
+    private TestUsers testUsers;
+
+    private final String tag = "tag-" + UUID.randomUUID();
+    private final List<Post> posts = new ArrayList<>();
+    private User author;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        // 작성 순서대로 (posts[0] 이 가장 오래됨)
+        for (int i = 0; i < 4; i++) {
+            Post post = postRepository.save(Post.create(author.getId(), "title" + i, "content", "fairytaleId", List.of(tag)));
+            tagIndex.onPostSaved(post.getId(), List.of(), List.of(tag));
+            posts.add(post);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        for (Post post : posts) {
+            tagIndex.onPostDeleted(post.getId(), List.of(tag));
+            postRepository.deleteById(post.getId());
+        }
+        testUsers.delete(author);
+    }
+
+    @DisplayName("다른 노드에서 삭제되어 색인에만 남은 게시글을 건너뛰고 페이지와 다음 페이지 여부를 채움")
+    @Test
+    public void skipsPostsDeletedElsewhere() {
+        // given (색인 갱신 없이 삭제된 최신 게시글 2건)
+        postRepository.deleteById(posts.get(3).getId());
+        postRepository.deleteById(posts.get(2).getId());
+
+        // when
+        PostListResponse firstPage = postService.getPostsListByTags(null, List.of(tag), null, 1);
+
+        // then
+        assertThat(firstPage.posts()).hasSize(1);
+        assertThat(firstPage.posts().get(0).id()).isEqualTo(posts.get(1).getId());
+        assertThat(firstPage.hasNext()).isTrue();
+
+        // when
+        PostListResponse secondPage = postService.getPostsListByTags(null, List.of(tag), firstPage.nextCursor(), 1);
+
+        // then
+        assertThat(secondPage.posts()).extracting(PostListResponse.PostItem::id).containsExactly(posts.get(0).getId());
+        assertThat(secondPage.hasNext()).isFalse();
+    }
+}
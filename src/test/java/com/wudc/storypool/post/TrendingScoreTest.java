@@ -0,0 +1,92 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.service.TrendingService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@SpringBootTest
+@DisplayName("트렌딩 점수 테스트")
+public class TrendingScoreTest {
+
+    private static final String KEY_PREFIX = "trending:{posts}:";
+
+    @Autowired
+    private TrendingService trendingService;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String postId = "trending-test-" + UUID.randomUUID();
+
+    @AfterEach
+    public void tearDown() {
+        trendingService.remove(postId);
+    }
+
+    @DisplayName("좋아요 후 취소하면 좋아요 시각 기준으로 빼므로 점수가 남지 않음")
+    @Test
+    public void cancelRestoresScore() {
+        // given
+        trendingService.recordCreated(postId);
+        Double created = score();
+        Instant likedAt = Instant.now();
+        trendingService.recordLike(postId);
+
+        // when
+        trendingService.cancelLike(postId, likedAt);
+
+        // then
+        assertThat(score()).isCloseTo(created, within(created * 1e-3));
+    }
+
+    @DisplayName("더한 것보다 많이 빼도 음수 점수가 남지 않음")
+    @Test
+    public void cancelDoesNotGoNegative() {
+        // given (좋아요 기록이 maintain 으로 잘려 나간 뒤의 취소)
+        trendingService.recordView(postId);
+
+        // when
+        trendingService.cancelLike(postId, Instant.now().minus(Duration.ofMinutes(30)));
+
+        // then
+        assertThat(score()).isNull();
+    }
+
+    @DisplayName("롤백된 트랜잭션의 이벤트는 반영하지 않음")
+    @Test
+    public void rolledBackEventIsIgnored() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            trendingService.recordLike(postId);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(score()).isNull();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> trendingService.recordLike(postId));
+
+        // then
+        assertThat(score()).isPositive();
+    }
+
+    private Double score() {
+        String latest = stringRedisTemplate.opsForValue().get(KEY_PREFIX + "latest");
+        return stringRedisTemplate.opsForZSet().score(KEY_PREFIX + latest, postId);
+    }
+}
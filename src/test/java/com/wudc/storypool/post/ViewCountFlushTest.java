@@ -0,0 +1,115 @@
+package com.wudc.storypool.post;
+
+import com.wudc.storypool.domain.post.entity.Post;
+import com.wudc.storypool.domain.post.repository.PostRepository;
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.global.counter.CounterBuffer;
+import com.wudc.storypool.global.counter.CounterType;
+import com.wudc.storypool.support.TestUsers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("조회수 버퍼 플러시 테스트")
+public class ViewCountFlushTest {
+
+    private static final String FLUSHING_KEY = "counter:{post_view}:flushing";
+
+    @Autowired
+    private CounterBuffer counterBuffer;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private TestUsers testUsers;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    private User author;
+    private Post post;
+    private String batchId;
+
+    @BeforeEach
+    public void setUp() {
+        author = testUsers.create("author");
+        post = postRepository.save(Post.create(author.getId(), "title", "content", "fairytaleId", List.of("tag")));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (batchId != null) {
+            jdbcTemplate.update("DELETE FROM counter_flush_log WHERE batch_id = ?", batchId);
+        }
+        stringRedisTemplate.opsForHash().delete(FLUSHING_KEY, post.getId());
+        postRepository.deleteById(post.getId());
+        testUsers.delete(author);
+    }
+
+    @DisplayName("플러시 전후로 DB 값과 반영 전 증가분의 합이 같음")
+    @Test
+    public void flushKeepsTotal() {
+        for (int i = 0; i < 3; i++) {
+            counterBuffer.increment(CounterType.POST_VIEW, post.getId());
+        }
+        assertThat(total()).isEqualTo(3);
+
+        counterBuffer.flushAll();
+
+        assertThat(viewCount()).isEqualTo(3);
+        assertThat(total()).isEqualTo(3);
+    }
+
+    @DisplayName("반영은 끝났지만 Redis 정리 전에 멈춘 배치는 조회에서 빼고, 다시 플러시해도 두 번 더하지 않음")
+    @Test
+    public void appliedBatchIsNotCountedTwice() {
+        // 트랜잭션 커밋 후 해시를 지우기 전에 멈춘 상태를 만듦 (기록 → DB 반영 → 해시 순서라 예약 플러시와 겹쳐도 안전)
+        batchId = UUID.randomUUID().toString();
+        jdbcTemplate.update("INSERT INTO counter_flush_log (batch_id, applied_at) VALUES (?, NOW(6))", batchId);
+        jdbcTemplate.update("UPDATE post SET view_count = view_count + 5 WHERE id = ?", post.getId());
+        stringRedisTemplate.opsForHash().putAll(FLUSHING_KEY, Map.of(post.getId(), "5", "__batch", batchId));
+
+        assertThat(total()).isEqualTo(5);
+
+        counterBuffer.flushAll();
+
+        assertThat(viewCount()).isEqualTo(5);
+        assertThat(total()).isEqualTo(5);
+        assertThat(stringRedisTemplate.opsForHash().hasKey(FLUSHING_KEY, post.getId())).isFalse();
+    }
+
+    @DisplayName("반영 전에 멈춘 배치는 다시 플러시할 때 한 번만 반영")
+    @Test
+    public void unappliedBatchIsRetried() {
+        batchId = UUID.randomUUID().toString();
+        stringRedisTemplate.opsForHash().putAll(FLUSHING_KEY, Map.of(post.getId(), "4", "__batch", batchId));
+
+        assertThat(total()).isEqualTo(4);
+
+        counterBuffer.flushAll();
+        counterBuffer.flushAll();
+
+        assertThat(viewCount()).isEqualTo(4);
+        assertThat(total()).isEqualTo(4);
+    }
+
+    private long total() {
+        return viewCount() + counterBuffer.getPendingDelta(CounterType.POST_VIEW, post.getId());
+    }
+
+    private long viewCount() {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM post WHERE id = ?", Long.class, post.getId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.wudc.storypool.support;
+
+import com.wudc.storypool.domain.user.entity.User;
+import com.wudc.storypool.domain.user.repository.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 통합 테스트에서 쓰는 사용자를 만들고 지웁니다.
+ * 이메일과 닉네임은 매번 새로 만들어 테스트끼리 겹치지 않습니다.
+ */
+@Component
+public class TestUsers {
+
+    private static final String EMAIL_DOMAIN = "@storypool.test";
+    private static final String PROFILE_IMAGE_URL = "https://image.url/profile.png";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestUsers(UserRepository userRepository, JdbcTemplate jdbcTemplate) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public User create(String nicknamePrefix) {
+        return userRepository.save(newUser(nicknamePrefix));
+    }
+
+    public List<User> create(String nicknamePrefix, int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(newUser(nicknamePrefix));
+        }
+        return userRepository.saveAll(users);
+    }
+
+    /**
+     * 소프트 삭제가 아닌 실제 삭제입니다. 사용자를 참조하는 데이터는 먼저 지워야 합니다.
+     */
+    public void delete(User... users) {
+        delete(List.of(users));
+    }
+
+    public void delete(List<User> users) {
+        jdbcTemplate.batchUpdate("DELETE FROM user WHERE id = ?", users, users.size(),
+            (ps, user) -> ps.setString(1, user.getId()));
+    }
+
+    private static User newUser(String nicknamePrefix) {
+        return User.createUser(
+            UUID.randomUUID() + EMAIL_DOMAIN, "password", nicknamePrefix + "-" + UUID.randomUUID(), PROFILE_IMAGE_URL);
+    }
+}